@@ -0,0 +1,471 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * A {@link Board} implementation that stores every row of the well as a bitmask.
+ * Collision checks and full-row detection work on the row masks only; a separate
+ * color plane, a {@link RowRing}, is kept in sync purely so the View can render brick colors.
+ * The matrix layout ({@code [width][height]}) matches {@link SimpleBoard}, so the two
+ * implementations are interchangeable.
+ */
+public class BitBoard implements Board {
+
+    private final int width;
+    private final int height;
+    private final int fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+
+    // One occupancy mask per row, bit c set when column c is filled
+    private final int[] rowMasks;
+    // Brick ids per cell, only used for rendering
+    private final RowRing colors;
+    // Read-only copy of the color plane shared with ViewData and snapshots, updated by copying only touched rows
+    private PersistentWell view;
+    private final PersistentWell emptyView;
+
+    // Coordinates of the current active brick
+    private int currentX;
+    private int currentY;
+    // Landing row of the current brick, recomputed whenever it moves
+    private int ghostY;
+    // Shapes of the upcoming bricks, shared by the views until the next brick spawns; null when stale
+    private BrickShape[] preview;
+
+    private final Score score;
+    private final RowVersions rowVersions;
+    private final BoardStats stats;
+    // Rows covered by the last locked brick, the only ones a clear has to inspect (empty when top > bottom)
+    private int mergedTop;
+    private int mergedBottom = -1;
+    private final int[] fullRows;
+
+    /**
+     * Constructs a new BitBoard with specific dimensions.
+     *
+     * @param width  The number of rows of the board matrix.
+     * @param height The number of columns of the board matrix (at most {@link BitMatrixOperations#MAX_COLUMNS}).
+     * @throws IllegalArgumentException If the rows are too wide to fit into a mask.
+     */
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new BitBoard that draws its bricks from the given generator.
+     *
+     * @param width          The number of rows of the board matrix.
+     * @param height         The number of columns of the board matrix (at most {@link BitMatrixOperations#MAX_COLUMNS}).
+     * @param brickGenerator The source of bricks, e.g. a seeded generator for reproducible games.
+     * @throws IllegalArgumentException If the rows are too wide to fit into a mask.
+     */
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (height > BitMatrixOperations.MAX_COLUMNS) {
+            throw new IllegalArgumentException("A BitBoard supports at most "
+                    + BitMatrixOperations.MAX_COLUMNS + " columns, got " + height);
+        }
+        this.width = width;
+        this.height = height;
+        fullRowMask = BitMatrixOperations.fullRowMask(height);
+        rowMasks = new int[width];
+        colors = new RowRing(width, height);
+        this.brickGenerator = brickGenerator;
+        brickRotator = new BrickRotator();
+        score = new Score();
+        rowVersions = new RowVersions(width);
+        emptyView = PersistentWell.empty(width, height);
+        view = emptyView;
+        stats = new BoardStats(width, height);
+        fullRows = new int[width];
+    }
+
+    /**
+     * Attempts to move the current brick down. Checks for collisions.
+     *
+     * @return true if the move was successful, false if blocked.
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return moveBrick(currentX, currentY + 1);
+    }
+
+    /**
+     * Attempts to move the current brick left. Checks for collisions.
+     *
+     * @return true if the move was successful.
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return moveBrick(currentX - 1, currentY);
+    }
+
+    /**
+     * Attempts to move the current brick right. Checks for collisions.
+     *
+     * @return true if the move was successful.
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return moveBrick(currentX + 1, currentY);
+    }
+
+    /**
+     * Moves the current brick to the given position if it does not collide there.
+     *
+     * @param nextX The target column.
+     * @param nextY The target row.
+     * @return true if the brick was moved.
+     */
+    private boolean moveBrick(int nextX, int nextY) {
+        if (BitMatrixOperations.intersect(rowMasks, fullRowMask, brickRotator.getCurrentShape(), nextX, nextY)) {
+            return false;
+        }
+        touchBrick();
+        boolean fell = nextX == currentX;
+        currentX = nextX;
+        currentY = nextY;
+        if (fell) {
+            // Falling straight down keeps the landing row
+            touchBrick();
+        } else {
+            brickMoved();
+        }
+        return true;
+    }
+
+    /**
+     * Attempts to rotate the current brick. Checks for collisions with the new shape.
+     *
+     * @return true if rotation was successful.
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        if (BitMatrixOperations.intersect(rowMasks, fullRowMask, brickRotator.peekNextShape(), currentX, currentY)) {
+            return false;
+        }
+        touchBrick();
+        brickRotator.rotate();
+        brickMoved();
+        return true;
+    }
+
+    /**
+     * Spawns a new brick at the top of the board.
+     *
+     * @return true if the brick was placed successfully, false if immediate collision (Game Over).
+     */
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        preview = null;
+        brickRotator.setBrick(currentBrick);
+        currentX = SPAWN_X; // Reset Position
+        currentY = SPAWN_Y; // Start slightly lower so it's visible
+        brickMoved();
+        return BitMatrixOperations.intersect(rowMasks, fullRowMask, brickRotator.getCurrentShape(), currentX, currentY);
+    }
+
+    /**
+     * Returns the board matrix merged with the current floating brick.
+     *
+     * @return A snapshot of the 2D board array for display.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return MatrixOperations.merge(viewMatrix(), brickRotator.getCurrentShape(), currentX, currentY);
+    }
+
+    /**
+     * Generates a comprehensive view data object for the UI.
+     * Snapshots share the persistent copy of the color plane.
+     *
+     * @return {@link ViewData} containing all necessary state info.
+     */
+    @Override
+    public ViewData getViewData() {
+        return new ViewData(
+                brickRotator.getCurrentShape(),
+                currentX,
+                currentY,
+                ghostY,
+                preview(),
+                viewMatrix(),
+                rowVersions.snapshot()
+        );
+    }
+
+    /**
+     * Gets the shapes of the upcoming bricks. The array is built once per spawned brick and shared by
+     * every {@link ViewData} until the next one spawns.
+     *
+     * @return The preview shapes, the next brick first.
+     */
+    private BrickShape[] preview() {
+        if (preview == null) {
+            BrickShape[] shapes = new BrickShape[brickGenerator.getPreviewDepth()];
+            for (int i = 0; i < shapes.length; i++) {
+                shapes[i] = brickGenerator.peekBrick(i).getShape(0);
+            }
+            preview = shapes;
+        }
+        return preview;
+    }
+
+    /**
+     * Gets the change counter of a row of the rendered board.
+     *
+     * @param row The board row.
+     * @return The row's current generation.
+     */
+    @Override
+    public long getRowVersion(int row) {
+        return rowVersions.get(row);
+    }
+
+    /**
+     * Returns the rows of the shared copy of the color plane.
+     *
+     * @return A color matrix that is never modified afterwards.
+     */
+    private int[][] viewMatrix() {
+        return view.rows();
+    }
+
+    /**
+     * Marks the rows covered by the falling brick and its ghost as changed.
+     */
+    private void touchBrick() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        rowVersions.touch(shape, currentY);
+        rowVersions.touch(shape, ghostY);
+    }
+
+    /**
+     * Recomputes the landing row after the falling brick changed and marks its new rows as changed.
+     */
+    private void brickMoved() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        ghostY = stats.dropRow(shape, currentX);
+        if (ghostY < currentY) {
+            // Tucked under an overhang: the column surfaces are above the brick, so step down instead
+            ghostY = currentY;
+            while (!BitMatrixOperations.intersect(rowMasks, fullRowMask, shape, currentX, ghostY + 1)) {
+                ghostY++;
+            }
+        }
+        touchBrick();
+    }
+
+    /**
+     * Moves the current brick straight down to its landing row.
+     *
+     * @return The number of rows the brick fell.
+     */
+    @Override
+    public int hardDropBrick() {
+        int rows = ghostY - currentY;
+        if (rows > 0) {
+            touchBrick();
+            currentY = ghostY;
+            touchBrick();
+        }
+        return rows;
+    }
+
+    /**
+     * Gets the row the current brick would land on.
+     *
+     * @return The landing row.
+     */
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets the Zobrist hash of the well, carried along by its persistent copy.
+     * @return The hash of the well's occupancy.
+     */
+    @Override
+    public long getHash() {
+        return view.getHash();
+    }
+
+    /**
+     * Gets the incrementally maintained metrics of the row masks.
+     * @return The {@link BoardStats}.
+     */
+    @Override
+    public BoardStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Locks the current floating brick into the row masks and the color plane.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        BitMatrixOperations.merge(rowMasks, shape, currentX, currentY);
+        stats.place(shape, currentX, currentY);
+        mergedTop = currentY + shape.getMinY();
+        mergedBottom = currentY + shape.getMaxY();
+        colors.merge(shape, currentX, currentY);
+        view = view.place(shape, currentX, currentY);
+    }
+
+    /**
+     * Removes every full row and compacts the rest downwards. Only the rows covered by the last
+     * locked brick can have become full, so only they are checked and only the rows from the lowest
+     * of them upwards are moved. The color ring only remaps its rows and the persistent copy shares
+     * the surviving ones; the resulting matrix is copied only if a caller asks for it.
+     *
+     * @return {@link ClearRow} results containing the lines removed and score info.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int count = 0;
+        for (int row = mergedTop; row <= mergedBottom; row++) {
+            if (rowMasks[row] == fullRowMask) {
+                fullRows[count++] = row;
+            }
+        }
+        mergedBottom = -1;
+        if (count == 0) {
+            PersistentWell unchanged = view;
+            return new ClearRow(0, unchanged::rows, 0);
+        }
+        stats.removeRows(colors, fullRows, count);
+        colors.removeRows(fullRows, count);
+        view = view.removeRows(fullRows, count);
+
+        int target = fullRows[count - 1];
+        for (int i = target; i >= 0; i--) {
+            if (rowMasks[i] != fullRowMask) {
+                rowMasks[target--] = rowMasks[i];
+            }
+        }
+        Arrays.fill(rowMasks, 0, count, 0);
+        rowVersions.touchAll();
+        int scoreBonus = 50 * count * count;
+        PersistentWell cleared = view;
+        return new ClearRow(count, cleared::rows, scoreBonus);
+    }
+
+    /**
+     * Pushes a garbage row in from the bottom. The color ring moves its rows by advancing its start and
+     * the masks shift by one array copy.
+     *
+     * @param holeColumn The column left empty in the garbage row.
+     * @return true if filled cells were pushed out of the top or the brick has no room left.
+     * @throws IllegalArgumentException If the column is outside the well.
+     */
+    @Override
+    public boolean addGarbageRow(int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= height) {
+            throw new IllegalArgumentException("Hole column out of range: " + holeColumn);
+        }
+        boolean overflow = rowMasks[0] != 0;
+        System.arraycopy(rowMasks, 1, rowMasks, 0, width - 1);
+        rowMasks[width - 1] = fullRowMask & ~(1 << holeColumn);
+        int[] bottom = colors.pushBottom();
+        for (int col = 0; col < height; col++) {
+            if (col != holeColumn) {
+                bottom[col] = GARBAGE_ID;
+            }
+        }
+        if (overflow) {
+            stats.rebuild(colors);
+        } else {
+            stats.pushGarbage(holeColumn);
+        }
+        if (mergedBottom >= 0) {
+            mergedTop = Math.max(0, mergedTop - 1);
+            mergedBottom--;
+        }
+        view = view.pushGarbage(holeColumn);
+
+        BrickShape shape = brickRotator.getCurrentShape();
+        if (BitMatrixOperations.intersect(rowMasks, fullRowMask, shape, currentX, currentY)) {
+            if (currentY + shape.getMinY() > 0) {
+                currentY--;
+            } else {
+                overflow = true;
+            }
+        }
+        rowVersions.touchAll();
+        brickMoved();
+        return overflow;
+    }
+
+    /**
+     * Gets the Score object for this board.
+     * @return The {@link Score}.
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the generator this board draws its bricks from.
+     * @return The {@link BrickGenerator}.
+     */
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * Captures the game state, sharing the persistent copy of the color plane.
+     * @return The {@link BoardSnapshot}.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(view, brickRotator.getBrick(), brickRotator.getCurrentRotation(),
+                currentX, currentY, brickGenerator.saveState(), score.getValue());
+    }
+
+    /**
+     * Restores a captured game state, rebuilding the row masks from the saved well.
+     * @param snapshot The state to restore.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        view = snapshot.getWell();
+        colors.load(view.rows());
+        BitMatrixOperations.toRowMasks(view.rows(), rowMasks);
+        stats.rebuild(colors);
+        mergedBottom = -1;
+        brickRotator.setBrick(snapshot.getBrick());
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        currentX = snapshot.getX();
+        currentY = snapshot.getY();
+        brickMoved();
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        preview = null;
+        score.set(snapshot.getScore());
+        rowVersions.touchAll();
+    }
+
+    /**
+     * Resets the board and score for a new game.
+     */
+    @Override
+    public void newGame() {
+        Arrays.fill(rowMasks, 0);
+        stats.reset();
+        mergedBottom = -1;
+        colors.clear();
+        view = emptyView;
+        rowVersions.touchAll();
+        score.reset();
+        createNewBrick();
+    }
+}
@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Utility class providing static methods for boards stored as one bitmask per row.
+ * Bit {@code c} of a row mask is set when column {@code c} of that row is occupied,
+ * so collision and full-row checks become a few AND/compare operations per row
+ * instead of a cell-by-cell walk.
+ */
+public final class BitMatrixOperations {
+
+    /** Maximum number of columns a row mask can hold. */
+    public static final int MAX_COLUMNS = Integer.SIZE;
+
+    // We don't want to instantiate this utility class
+    private BitMatrixOperations() {
+    }
+
+    /**
+     * Computes the mask of a completely filled row.
+     *
+     * @param columns The number of columns in a row.
+     * @return A mask with the lowest {@code columns} bits set.
+     */
+    public static int fullRowMask(int columns) {
+        return columns == MAX_COLUMNS ? -1 : (1 << columns) - 1;
+    }
+
+    /**
+     * Converts a board matrix into row masks.
+     *
+     * @param matrix The board matrix; non-zero cells count as occupied.
+     * @param out    The array receiving one mask per matrix row (must hold {@code matrix.length} entries).
+     */
+    public static void toRowMasks(int[][] matrix, int[] out) {
+        for (int row = 0; row < matrix.length; row++) {
+            int mask = 0;
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            out[row] = mask;
+        }
+    }
+
+    /**
+     * Checks if a precomputed brick shape collides with occupied cells or the board boundaries.
+     * Only the rows between the shape's top and bottom offsets are tested.
+     *
+     * @param rows     The row masks of the background board.
+     * @param fullMask The mask of a completely filled row (see {@link #fullRowMask(int)}).
+     * @param shape    The brick shape to test.
+     * @param x        The x-coordinate (column) of the shape's top-left corner.
+     * @param y        The y-coordinate (row) of the shape's top-left corner.
+     * @return true if a collision is detected or if the brick is out of bounds; false otherwise.
+     */
+    public static boolean intersect(int[] rows, int fullMask, BrickShape shape, int x, int y) {
+        if (y + shape.getMinY() < 0 || y + shape.getMaxY() >= rows.length) {
+            return true;
+        }
+        for (int i = shape.getMinY(); i <= shape.getMaxY(); i++) {
+            long placed = shift(shape.getRowMask(i), x);
+            if (placed < 0 || (placed & ~(fullMask & 0xFFFFFFFFL)) != 0 || (rows[y + i] & (int) placed) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * ORs a precomputed brick shape into the background row masks in place.
+     * The caller is expected to have checked the position with {@link #intersect}.
+     *
+     * @param rows  The row masks of the background board.
+     * @param shape The brick shape to merge.
+     * @param x     The x-coordinate of the brick.
+     * @param y     The y-coordinate of the brick.
+     */
+    public static void merge(int[] rows, BrickShape shape, int x, int y) {
+        for (int i = shape.getMinY(); i <= shape.getMaxY(); i++) {
+            rows[y + i] |= (int) shift(shape.getRowMask(i), x);
+        }
+    }
+
+    /**
+     * Removes full rows in place, moving the rows above them down and filling the top with empty rows.
+     *
+     * @param rows     The row masks of the board.
+     * @param fullMask The mask of a completely filled row.
+     * @return The number of rows removed.
+     */
+    public static int removeFullRows(int[] rows, int fullMask) {
+        int target = rows.length - 1;
+        for (int i = rows.length - 1; i >= 0; i--) {
+            if (rows[i] != fullMask) {
+                rows[target--] = rows[i];
+            }
+        }
+        int removed = target + 1;
+        for (; target >= 0; target--) {
+            rows[target] = 0;
+        }
+        return removed;
+    }
+
+    /**
+     * Shifts a shape row mask to column {@code x}.
+     *
+     * @param mask The shape row mask anchored at column 0.
+     * @param x    The target column of the shape's left edge.
+     * @return The shifted mask, or -1 if cells would fall off the left edge.
+     */
+    private static long shift(int mask, int x) {
+        if (x >= 0) {
+            return x >= Long.SIZE - Integer.SIZE ? -1 : (mask & 0xFFFFFFFFL) << x;
+        }
+        if (-x >= Integer.SIZE || (mask & ((1 << -x) - 1)) != 0) {
+            return -1;
+        }
+        return (mask & 0xFFFFFFFFL) >>> -x;
+    }
+}
@@ -1,11 +1,22 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickGenerator;
+
 /**
  * Interface defining the core logic and state management of the Tetris board.
  * Implementing classes manage the grid matrix, brick movements, and game rules.
  */
 public interface Board {
 
+    /** Column of the top-left corner of a newly spawned brick. */
+    int SPAWN_X = 4;
+
+    /** Row of the top-left corner of a newly spawned brick; the rows above it are hidden. */
+    int SPAWN_Y = 2;
+
+    /** Brick id of the cells of garbage rows (see {@link #addGarbageRow(int)}). */
+    int GARBAGE_ID = 8;
+
     /**
      * Attempts to move the current active brick down by one cell.
      * @return true if the move was successful, false if the brick was blocked.
@@ -24,6 +35,22 @@ public interface Board {
      */
     boolean moveBrickRight();
 
+    /**
+     * Moves the current brick straight down to its landing row (see {@link #getGhostY()}).
+     * The brick is not locked; the next down move does that.
+     *
+     * @return The number of rows the brick fell.
+     */
+    int hardDropBrick();
+
+    /**
+     * Gets the row the current brick would land on if it fell straight down, e.g. to draw a ghost piece.
+     * The value is kept up to date as the brick moves, so reading it is free.
+     *
+     * @return The landing row of the brick's top-left corner.
+     */
+    int getGhostY();
+
     /**
      * Attempts to rotate the current active brick 90 degrees.
      * @return true if the rotation was valid and successful.
@@ -48,6 +75,33 @@ public interface Board {
      */
     ViewData getViewData();
 
+    /**
+     * Gets the change counter of a row of the rendered board (background plus falling brick).
+     * The value changes whenever any cell of the row may have changed, so Views can skip
+     * repainting rows whose counter they have already drawn.
+     *
+     * @param row The board row.
+     * @return The row's current generation.
+     */
+    long getRowVersion(int row);
+
+    /**
+     * Gets the {@link Zobrist} hash of the locked cells (the well without the falling brick).
+     * The hash is maintained incrementally as bricks lock and rows clear, so reading it is free.
+     * Equal wells of equal size have equal hashes, whichever implementation holds them.
+     *
+     * @return The hash of the well's occupancy.
+     */
+    long getHash();
+
+    /**
+     * Gets the row fill counts, column heights and hole count of the locked cells.
+     * The returned object is owned by the board and kept up to date as bricks lock and rows clear.
+     *
+     * @return The live, read-only {@link BoardStats}.
+     */
+    BoardStats getStats();
+
     /**
      * Locks the current active brick into the background grid (called when it can no longer move).
      */
@@ -59,12 +113,41 @@ public interface Board {
      */
     ClearRow clearRows();
 
+    /**
+     * Pushes a garbage row in from the bottom, as sent by an opponent in versus modes: every row moves
+     * up by one and the new bottom row is filled with {@link #GARBAGE_ID} except for one column.
+     * The falling brick is moved up as well if it would overlap the raised stack.
+     *
+     * @param holeColumn The column left empty in the garbage row.
+     * @return true if filled cells were pushed out of the top of the well or the falling brick has no
+     *         room left above the stack (the game is lost).
+     */
+    boolean addGarbageRow(int holeColumn);
+
     /**
      * Gets the score object associated with the current game.
      * @return The {@link Score} object.
      */
     Score getScore();
 
+    /**
+     * Gets the generator the board draws its bricks from, e.g. to record its seed.
+     * @return The {@link BrickGenerator}.
+     */
+    BrickGenerator getBrickGenerator();
+
+    /**
+     * Captures the complete game state, cheaply enough to be taken routinely (e.g. every few pieces).
+     * @return An immutable {@link BoardSnapshot}.
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Returns the game to a captured state. The generator must be of the type the snapshot was taken from.
+     * @param snapshot The state to restore.
+     */
+    void restore(BoardSnapshot snapshot);
+
     /**
      * Resets the board state for a new game session.
      */
@@ -0,0 +1,38 @@
+package com.comp2042;
+
+/**
+ * Strategy for drawing the game board and the next-brick preview.
+ * The {@link GuiController} delegates all drawing to one renderer, chosen in {@link Config}.
+ */
+public interface BoardRenderer {
+
+    /**
+     * Creates the visual elements for a board of the given size.
+     * The first two rows of the board are hidden spawn rows and are never drawn.
+     *
+     * @param boardMatrix The initial state of the logical board.
+     */
+    void initialize(int[][] boardMatrix);
+
+    /**
+     * Draws the board, including the falling brick already merged into the matrix.
+     *
+     * @param board The 2D integer array representing the board state.
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Draws the board from a snapshot, repainting only rows whose change counter differs
+     * from the one last drawn (see {@link ViewData#getRowVersion(int)}).
+     *
+     * @param viewData The current view data.
+     */
+    void drawBoard(ViewData viewData);
+
+    /**
+     * Draws the "Next Brick" preview.
+     *
+     * @param nextBrick The shape matrix of the next brick.
+     */
+    void drawNextBrick(int[][] nextBrick);
+}
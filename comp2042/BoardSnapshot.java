@@ -0,0 +1,100 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.GeneratorState;
+
+/**
+ * Immutable capture of everything that determines how a game continues: the well, the falling brick
+ * with its rotation and position, the generator's position in its sequence and the score.
+ * The well is the board's {@link PersistentWell}, so taking a snapshot copies nothing but the small
+ * generator state, and consecutive snapshots share every row that did not change between them.
+ * Snapshots of one board implementation can be restored into another.
+ */
+public final class BoardSnapshot {
+
+    private final PersistentWell well;
+    private final Brick brick;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final GeneratorState generatorState;
+    private final int score;
+
+    /**
+     * Constructs a snapshot.
+     *
+     * @param well           The well without the falling brick.
+     * @param brick          The falling brick.
+     * @param rotation       The rotation index of the falling brick.
+     * @param x              The column of the falling brick.
+     * @param y              The row of the falling brick.
+     * @param generatorState The state of the brick generator.
+     * @param score          The score.
+     */
+    BoardSnapshot(PersistentWell well, Brick brick, int rotation, int x, int y, GeneratorState generatorState,
+                  int score) {
+        this.well = well;
+        this.brick = brick;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.generatorState = generatorState;
+        this.score = score;
+    }
+
+    /**
+     * Gets the well without the falling brick.
+     * @return The immutable well.
+     */
+    public PersistentWell getWell() {
+        return well;
+    }
+
+    Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the rotation index of the falling brick.
+     * @return The rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the column of the falling brick.
+     * @return The x-coordinate.
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the row of the falling brick.
+     * @return The y-coordinate.
+     */
+    public int getY() {
+        return y;
+    }
+
+    GeneratorState getGeneratorState() {
+        return generatorState;
+    }
+
+    /**
+     * Gets the score at the time of the snapshot.
+     * @return The score.
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the {@link Zobrist} hash of the well at the time of the snapshot.
+     * @return The hash of the background.
+     */
+    public long getHash() {
+        return well.getHash();
+    }
+}
@@ -0,0 +1,275 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Shape metrics of the locked cells of a well: the fill count of every row, the height of every
+ * column and the number of holes (empty cells with a filled cell somewhere above them in their column).
+ * The owning board updates the metrics as bricks lock and rows clear, touching only the cells that
+ * changed, so reading them never rescans the well. Outside this package the object is read-only.
+ */
+public final class BoardStats {
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowFill;
+    // Row index of the topmost filled cell of each column, rows for an empty column
+    private final int[] tops;
+    private int holes;
+
+    /**
+     * Creates the metrics of an empty well.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     */
+    BoardStats(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        rowFill = new int[rows];
+        tops = new int[columns];
+        Arrays.fill(tops, rows);
+    }
+
+    /**
+     * Gets the number of rows of the well.
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns of the well.
+     * @return The column count.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the number of filled cells of a row.
+     *
+     * @param row The row index, 0 at the top.
+     * @return The fill count, from 0 to {@link #getColumns()}.
+     */
+    public int getRowFill(int row) {
+        return rowFill[row];
+    }
+
+    /**
+     * Checks whether a row is completely filled.
+     *
+     * @param row The row index.
+     * @return true if every cell of the row is filled.
+     */
+    public boolean isRowFull(int row) {
+        return rowFill[row] == columns;
+    }
+
+    /**
+     * Gets the height of a column, i.e. the number of rows from its topmost filled cell to the floor.
+     *
+     * @param column The column index.
+     * @return The height; 0 for an empty column.
+     */
+    public int getColumnHeight(int column) {
+        return rows - tops[column];
+    }
+
+    /**
+     * Gets the row index of the topmost filled cell of a column, e.g. to find where a brick lands.
+     *
+     * @param column The column index.
+     * @return The row of the column's surface; {@link #getRows()} for an empty column.
+     */
+    public int getColumnTop(int column) {
+        return tops[column];
+    }
+
+    /**
+     * Finds the row a shape comes to rest at when it falls straight down from above the stack,
+     * from the column surfaces and the shape's bottom profile alone, in O(shape width).
+     * A shape that is already below the surface of one of its columns (tucked under an overhang)
+     * gets a row above its current one; callers must then fall back to stepping down.
+     *
+     * @param shape The falling shape.
+     * @param x     The column of the shape.
+     * @return The lowest row the shape can occupy in that column range above all surfaces.
+     */
+    public int dropRow(BrickShape shape, int x) {
+        int row = Integer.MAX_VALUE;
+        for (int col = shape.getMinX(); col <= shape.getMaxX(); col++) {
+            int bottom = shape.getColumnBottom(col);
+            if (bottom >= 0) {
+                row = Math.min(row, tops[x + col] - 1 - bottom);
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Gets the height of the highest column.
+     * @return The maximum column height.
+     */
+    public int getMaxHeight() {
+        int top = rows;
+        for (int column = 0; column < columns; column++) {
+            top = Math.min(top, tops[column]);
+        }
+        return rows - top;
+    }
+
+    /**
+     * Gets the sum of all column heights.
+     * @return The aggregate height.
+     */
+    public int getAggregateHeight() {
+        int sum = 0;
+        for (int column = 0; column < columns; column++) {
+            sum += rows - tops[column];
+        }
+        return sum;
+    }
+
+    /**
+     * Gets the number of holes: empty cells that have a filled cell above them in the same column.
+     * @return The hole count.
+     */
+    public int getHoles() {
+        return holes;
+    }
+
+    /**
+     * Empties the well.
+     */
+    void reset() {
+        Arrays.fill(rowFill, 0);
+        Arrays.fill(tops, rows);
+        holes = 0;
+    }
+
+    /**
+     * Recomputes every metric from a well, e.g. after a saved state was restored.
+     *
+     * @param well The locked cells; non-zero cells are filled.
+     */
+    void rebuild(RowRing well) {
+        reset();
+        for (int row = rows - 1; row >= 0; row--) {
+            int[] cells = well.row(row);
+            for (int column = 0; column < columns; column++) {
+                if (cells[column] != 0) {
+                    rowFill[row]++;
+                    // Scanning upwards, the empty cells below each filled cell are holes
+                    holes += tops[column] - row - 1;
+                    tops[column] = row;
+                }
+            }
+        }
+    }
+
+    /**
+     * Accounts for a brick locked into the well.
+     *
+     * @param shape The locked shape.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     */
+    void place(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellY(i);
+            int column = x + shape.getCellX(i);
+            rowFill[row]++;
+            if (row < tops[column]) {
+                // The cells between the new surface and the old one are covered now
+                holes += tops[column] - row - 1;
+                tops[column] = row;
+            } else {
+                // Filled a hole below the surface
+                holes--;
+            }
+        }
+    }
+
+    /**
+     * Accounts for full rows being removed and the rows above them moving down.
+     * Columns whose surface survives only move down; a column whose surface was removed is followed
+     * down to its next remaining filled cell, releasing the holes on the way.
+     *
+     * @param before  The locked cells before the removal; non-zero cells are filled.
+     * @param removed The removed rows in ascending order.
+     * @param count   The number of removed rows.
+     */
+    void removeRows(RowRing before, int[] removed, int count) {
+        if (count == 0) {
+            return;
+        }
+        for (int column = 0; column < columns; column++) {
+            int top = tops[column];
+            if (!contains(removed, count, top)) {
+                // Every removed row is full, so all of them lie below the surface
+                tops[column] = top + count;
+                continue;
+            }
+            int row = top + 1;
+            while (row < rows && (contains(removed, count, row) || before.get(row, column) == 0)) {
+                if (!contains(removed, count, row)) {
+                    holes--;
+                }
+                row++;
+            }
+            tops[column] = row == rows ? rows : row + removedBelow(removed, count, row);
+        }
+
+        int target = removed[count - 1];
+        for (int row = target; row >= 0; row--) {
+            if (!contains(removed, count, row)) {
+                rowFill[target--] = rowFill[row];
+            }
+        }
+        Arrays.fill(rowFill, 0, target + 1, 0);
+    }
+
+    /**
+     * Accounts for a garbage row pushed in from the bottom: every row moves up by one and the new
+     * bottom row is filled except for one column. The top row must be empty; a well that overflows
+     * has to be rebuilt instead.
+     *
+     * @param holeColumn The empty column of the garbage row.
+     */
+    void pushGarbage(int holeColumn) {
+        System.arraycopy(rowFill, 1, rowFill, 0, rows - 1);
+        rowFill[rows - 1] = columns - 1;
+        for (int column = 0; column < columns; column++) {
+            if (column != holeColumn) {
+                tops[column] = tops[column] == rows ? rows - 1 : tops[column] - 1;
+            } else if (tops[column] != rows) {
+                // The hole is covered by the column's stack
+                tops[column]--;
+                holes++;
+            }
+        }
+    }
+
+    private static boolean contains(int[] removed, int count, int row) {
+        for (int i = 0; i < count; i++) {
+            if (removed[i] == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int removedBelow(int[] removed, int count, int row) {
+        int below = 0;
+        for (int i = 0; i < count; i++) {
+            if (removed[i] > row) {
+                below++;
+            }
+        }
+        return below;
+    }
+}
@@ -1,10 +1,12 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
 
 /**
  * Helper class responsible for managing the rotation state of a Brick.
  * It handles the cycling through different shape orientations.
+ * Shapes are read straight from the brick's shared rotation table, so no copies are made.
  */
 public class BrickRotator {
 
@@ -14,21 +16,55 @@ public class BrickRotator {
     /**
      * Previews the next rotation shape without altering the current state.
      *
-     * @return A {@link NextShapeInfo} object containing the matrix of the next rotation and its index.
+     * @return A {@link NextShapeInfo} object containing the shape of the next rotation and its index.
      */
     public NextShapeInfo getNextShape() {
         int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        nextShape = (++nextShape) % brick.getRotationCount();
+        return new NextShapeInfo(brick.getShape(nextShape), nextShape);
     }
 
     /**
-     * Retrieves the matrix of the brick's current orientation.
+     * Previews the next rotation shape without altering the current state or allocating.
      *
-     * @return A 2D integer array representing the current shape.
+     * @return The immutable {@link BrickShape} the brick would have after {@link #rotate()}.
      */
-    public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+    public BrickShape peekNextShape() {
+        return brick.getShape((currentShape + 1) % brick.getRotationCount());
+    }
+
+    /**
+     * Advances the orientation to the next rotation state.
+     */
+    public void rotate() {
+        currentShape = (currentShape + 1) % brick.getRotationCount();
+    }
+
+    /**
+     * Retrieves the brick's current orientation.
+     *
+     * @return The immutable {@link BrickShape} of the current rotation.
+     */
+    public BrickShape getCurrentShape() {
+        return brick.getShape(currentShape);
+    }
+
+    /**
+     * Gets the brick managed by this rotator.
+     *
+     * @return The current {@link Brick}.
+     */
+    public Brick getBrick() {
+        return brick;
+    }
+
+    /**
+     * Gets the current orientation index.
+     *
+     * @return The index of the current shape orientation.
+     */
+    public int getCurrentRotation() {
+        return currentShape;
     }
 
     /**
@@ -0,0 +1,205 @@
+package com.comp2042;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+
+/**
+ * {@link BoardRenderer} that draws the whole board and the preview onto one {@link Canvas} each.
+ * Every brick color is rendered once into a cached tile image, so a frame is a clear plus one
+ * image blit per occupied cell, without scene-graph layout or CSS passes per cell.
+ * Snapshots are drawn row by row: only rows whose change counter or contents differ from
+ * what is on the canvas are cleared and redrawn.
+ */
+public class CanvasRenderer implements BoardRenderer {
+
+    // Distance between two cells, matching the 1px gaps of the grid layout
+    private static final int CELL_PITCH = Config.BRICK_SIZE + 1;
+
+    // Number of hidden spawn rows at the top of the board
+    private static final int HIDDEN_ROWS = 2;
+
+    // Ids 0-7 are the known bricks and 8 is garbage, the next slot holds the fallback color
+    private static final int FALLBACK_TILE = Board.GARBAGE_ID + 1;
+
+    // Ghost tiles follow at Config.GHOST_ID_OFFSET plus the brick id
+    private static final int TILE_COUNT = Config.GHOST_ID_OFFSET + FALLBACK_TILE;
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+    private final Image[] tiles = new Image[TILE_COUNT];
+
+    private Canvas boardCanvas;
+    private Canvas previewCanvas;
+
+    // Brick ids currently on the board canvas, and the row generations they were drawn from
+    private int[][] paintedIds;
+    private long[] paintedVersions;
+
+    /**
+     * Constructs a renderer that places its canvases into the given panels.
+     *
+     * @param gamePanel  The panel holding the main board.
+     * @param brickPanel The panel holding the next brick preview.
+     */
+    public CanvasRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    /**
+     * Creates the canvases and renders the cached color tiles.
+     *
+     * @param boardMatrix The initial state of the logical board.
+     */
+    @Override
+    public void initialize(int[][] boardMatrix) {
+        for (int id = 1; id < tiles.length; id++) {
+            tiles[id] = createTile(id == FALLBACK_TILE ? -1 : id);
+        }
+
+        int rows = boardMatrix.length - HIDDEN_ROWS;
+        int columns = boardMatrix[0].length;
+        paintedIds = new int[boardMatrix.length][columns];
+        paintedVersions = new long[boardMatrix.length];
+        Arrays.fill(paintedVersions, -1);
+        boardCanvas = new Canvas(columns * CELL_PITCH - 1, rows * CELL_PITCH - 1);
+        gamePanel.getChildren().clear();
+        gamePanel.add(boardCanvas, 0, 0);
+
+        previewCanvas = new Canvas(4 * CELL_PITCH - 1, 4 * CELL_PITCH - 1);
+        brickPanel.getChildren().clear();
+        brickPanel.add(previewCanvas, 0, 0);
+    }
+
+    /**
+     * Redraws the visible board rows whose contents changed.
+     * @param board The 2D integer array representing the board state.
+     */
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            if (!Arrays.equals(paintedIds[i], board[i])) {
+                System.arraycopy(board[i], 0, paintedIds[i], 0, board[i].length);
+                drawRow(gc, i);
+            }
+        }
+        // The matrix carries no row generations, so the next snapshot compares every row again
+        Arrays.fill(paintedVersions, -1);
+    }
+
+    /**
+     * Redraws the rows that changed since they were last drawn.
+     * @param viewData The current view data.
+     */
+    @Override
+    public void drawBoard(ViewData viewData) {
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        for (int i = HIDDEN_ROWS; i < viewData.getRowCount(); i++) {
+            long version = viewData.getRowVersion(i);
+            if (version == paintedVersions[i]) {
+                continue;
+            }
+            paintedVersions[i] = version;
+            boolean changed = false;
+            for (int j = 0; j < viewData.getColumnCount(); j++) {
+                int id = displayId(viewData, i, j);
+                if (paintedIds[i][j] != id) {
+                    paintedIds[i][j] = id;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                drawRow(gc, i);
+            }
+        }
+    }
+
+    /**
+     * Gets the id to draw at a cell: the brick or background id, else the ghost piece tile id.
+     *
+     * @param viewData The current view data.
+     * @param row      The board row.
+     * @param col      The board column.
+     * @return The tile id, 0 for an empty cell.
+     */
+    private static int displayId(ViewData viewData, int row, int col) {
+        int id = viewData.getCell(row, col);
+        if (id == 0 && Config.SHOW_GHOST) {
+            int ghost = viewData.getGhostCell(row, col);
+            if (ghost != 0) {
+                id = Config.GHOST_ID_OFFSET + ghost;
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Clears one board row on the canvas and draws its cells from {@code paintedIds}.
+     *
+     * @param gc  The board graphics context.
+     * @param row The board row.
+     */
+    private void drawRow(GraphicsContext gc, int row) {
+        int canvasRow = row - HIDDEN_ROWS;
+        gc.clearRect(0, canvasRow * CELL_PITCH, boardCanvas.getWidth(), CELL_PITCH);
+        for (int j = 0; j < paintedIds[row].length; j++) {
+            drawCell(gc, paintedIds[row][j], j, canvasRow);
+        }
+    }
+
+    /**
+     * Redraws the preview, in the same orientation as the grid based preview.
+     * @param nextBrick The next brick's shape matrix.
+     */
+    @Override
+    public void drawNextBrick(int[][] nextBrick) {
+        GraphicsContext gc = previewCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, previewCanvas.getWidth(), previewCanvas.getHeight());
+        for (int i = 0; i < nextBrick.length; i++) {
+            for (int j = 0; j < nextBrick[i].length; j++) {
+                drawCell(gc, nextBrick[j][i], j, i); // Transposed read
+            }
+        }
+    }
+
+    /**
+     * Blits the cached tile of a brick id; empty cells stay transparent.
+     *
+     * @param gc     The graphics context to draw on.
+     * @param id     The brick id of the cell.
+     * @param column The canvas column.
+     * @param row    The canvas row.
+     */
+    private void drawCell(GraphicsContext gc, int id, int column, int row) {
+        if (id == 0) {
+            return;
+        }
+        boolean known = id > 0 && id < FALLBACK_TILE
+                || id > Config.GHOST_ID_OFFSET && id < TILE_COUNT;
+        Image tile = tiles[known ? id : FALLBACK_TILE];
+        gc.drawImage(tile, column * CELL_PITCH, row * CELL_PITCH);
+    }
+
+    /**
+     * Renders a single brick-sized tile filled with the paint of a brick id.
+     *
+     * @param id The brick id.
+     * @return The tile image.
+     */
+    private static Image createTile(int id) {
+        Canvas tile = new Canvas(Config.BRICK_SIZE, Config.BRICK_SIZE);
+        GraphicsContext gc = tile.getGraphicsContext2D();
+        gc.setFill(Config.getPaintForId(id));
+        gc.fillRect(0, 0, Config.BRICK_SIZE, Config.BRICK_SIZE);
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return tile.snapshot(parameters, null);
+    }
+}
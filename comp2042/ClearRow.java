@@ -1,13 +1,17 @@
 package com.comp2042;
 
+import java.util.function.Supplier;
+
 /**
  * Data Transfer Object containing results after a row clearing operation.
  * Used to pass information from the Logic layer to the Controller/View.
+ * The resulting matrix may be supplied lazily, so boards that clear in place
+ * never build it unless a caller asks.
  */
 public final class ClearRow {
 
     private final int linesRemoved;
-    private final int[][] newMatrix;
+    private final Supplier<int[][]> newMatrix;
     private final int scoreBonus;
 
     /**
@@ -18,6 +22,18 @@ public final class ClearRow {
      * @param scoreBonus The calculated score to award for this action.
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, () -> newMatrix, scoreBonus);
+    }
+
+    /**
+     * Constructs a new ClearRow result whose matrix is only fetched when asked for.
+     *
+     * @param linesRemoved The number of full lines cleared.
+     * @param newMatrix Supplies the updated board matrix; its result is copied, not kept. It must always
+     *                  return the same state, so boards pass the well version produced by this clear.
+     * @param scoreBonus The calculated score to award for this action.
+     */
+    public ClearRow(int linesRemoved, Supplier<int[][]> newMatrix, int scoreBonus) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
@@ -36,7 +52,7 @@ public final class ClearRow {
      * @return A copy of the 2D integer array representing the board.
      */
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return MatrixOperations.copy(newMatrix.get());
     }
 
     /**
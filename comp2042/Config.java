@@ -28,13 +28,47 @@ public class Config {
     /** Speed of the game loop tick (animation delay) in milliseconds. */
     public static final double MOVE_DOWN_SPEED = 400;
 
+    /** Number of fixed simulation steps per second; inputs and gravity are applied on step boundaries. */
+    public static final int SIMULATION_RATE = 60;
+
+    /** Pieces per second placed by the auto-player (toggled with 'B'). */
+    public static final int BOT_PIECES_PER_SECOND = 4;
+
+    /** Time the auto-player may spend searching for one placement, in milliseconds. */
+    public static final long BOT_TIME_BUDGET_MS = 50;
+
+    /** Whether every game played in the window is recorded as a binary replay. */
+    public static final boolean RECORD_REPLAYS = true;
+
+    /** Directory the replays are written to, relative to the working directory. */
+    public static final String REPLAY_DIRECTORY = "replays";
+
+    /** Whether the landing position of the falling brick is drawn as a translucent ghost piece. */
+    public static final boolean SHOW_GHOST = true;
+
+    /** Added to a brick id to mark a ghost piece cell in the ids passed to {@link #getPaintForId(int)}. */
+    public static final int GHOST_ID_OFFSET = 16;
+
+    /** Opacity of ghost piece cells. */
+    public static final double GHOST_OPACITY = 0.3;
+
+    /**
+     * Selects the board renderer: true draws onto a single Canvas with cached tiles,
+     * false uses one Rectangle node per cell.
+     */
+    public static final boolean USE_CANVAS_RENDERER = true;
+
     /**
      * Maps a numerical Brick ID to a specific JavaFX Paint color.
+     * Ids above {@link #GHOST_ID_OFFSET} map to a translucent version of the brick's color.
      *
      * @param id The integer identifier of the brick type.
      * @return The {@link Paint} color associated with the given ID.
      */
     public static Paint getPaintForId(int id) {
+        if (id > GHOST_ID_OFFSET) {
+            return ((Color) getPaintForId(id - GHOST_ID_OFFSET)).deriveColor(0, 1, 1, GHOST_OPACITY);
+        }
         return switch (id) {
             case 0 -> Color.TRANSPARENT;
             case 1 -> Color.AQUA;       // IBrick
@@ -44,6 +78,7 @@ public class Config {
             case 5 -> Color.RED;        // SBrick
             case 6 -> Color.BEIGE;      // TBrick
             case 7 -> Color.BURLYWOOD;  // ZBrick
+            case 8 -> Color.GRAY;       // Garbage rows
             default -> Color.WHITE;
         };
     }
@@ -14,5 +14,11 @@ public enum EventType {
     RIGHT,
 
     /** Request to rotate the brick. */
-    ROTATE
+    ROTATE,
+
+    /** Request to drop the brick straight to its landing row and lock it. */
+    HARD_DROP,
+
+    /** Request to take back the last locked piece. */
+    UNDO
 }
@@ -1,26 +1,43 @@
 package com.comp2042;
 
+import com.comp2042.replay.ReplayRecorder;
+
 /**
  * The main controller for the Game.
- * Bridges the Game Logic (Board) and the UI (GuiController).
- * Implements {@link InputEventListener} to handle game events triggered by the UI.
+ * Bridges the Game Logic (Board) and a View through the {@link GameView} callbacks,
+ * so the same engine drives the JavaFX window or a headless run.
+ * Implements {@link InputEventListener} to handle game events triggered by the View.
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(25, 10);
-    private final GuiController viewGuiController;
+    private final Board board;
+    private final GameView gameView;
+    private ReplayRecorder recorder;
+    private UndoHistory undoHistory = new UndoHistory();
+
+    /**
+     * Constructs a new GameController on a default board and initializes the game link between Logic and View.
+     *
+     * @param c The {@link GameView} instance, e.g. the JavaFX {@link GuiController}.
+     */
+    public GameController(GameView c) {
+        this(c, new SimpleBoard(25, 10));
+    }
 
     /**
-     * Constructs a new GameController and initializes the game link between Logic and View.
+     * Constructs a new GameController on the given board.
      *
-     * @param c The {@link GuiController} instance managing the JavaFX view.
+     * @param c     The {@link GameView} receiving the engine callbacks.
+     * @param board The {@link Board} holding the game state.
      */
-    public GameController(GuiController c) {
-        viewGuiController = c;
+    public GameController(GameView c, Board board) {
+        this.board = board;
+        gameView = c;
         board.createNewBrick();
-        viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        undoHistory.reset(board.snapshot());
+        gameView.setEventListener(this);
+        gameView.initGameView(board.getBoardMatrix(), board.getViewData());
+        gameView.bindScore(board.getScore());
     }
 
     /**
@@ -33,21 +50,11 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
+        record(event);
         boolean canMove = board.moveBrickDown();
         ClearRow clearRow = null;
         if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                board.getScore().add(clearRow.getScoreBonus());
-            }
-            // Try to create a new brick; if false, board is full
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
+            clearRow = lockBrick();
         } else {
             // Add tiny score for manual soft drop
             if (event.getEventSource() == EventSource.USER) {
@@ -57,6 +64,50 @@ public class GameController implements InputEventListener {
         return new DownData(clearRow, board.getViewData());
     }
 
+    /**
+     * Handles a 'Hard Drop' event: the brick falls to its landing row in one step and locks there.
+     * Players earn two points per row dropped.
+     *
+     * @param event The move event details.
+     * @return A {@link DownData} object with the result of the lock.
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        record(event);
+        int rows = board.hardDropBrick();
+        if (rows > 0 && event.getEventSource() == EventSource.USER) {
+            board.getScore().add(2 * rows);
+        }
+        ClearRow clearRow = lockBrick();
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    /**
+     * Locks the brick, clears full rows, awards their score and spawns the next brick,
+     * ending the game if it does not fit.
+     *
+     * @return The result of the row clearing.
+     */
+    private ClearRow lockBrick() {
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            board.getScore().add(clearRow.getScoreBonus());
+        }
+        // Try to create a new brick; if false, board is full
+        if (board.createNewBrick()) {
+            if (recorder != null) {
+                recorder.flush();
+            }
+            gameView.gameOver();
+        } else {
+            undoHistory.pieceSpawned(board.snapshot());
+        }
+        // No background refresh: the lock and clear marked their rows in the row versions, so the
+        // view repaints them from the next ViewData
+        return clearRow;
+    }
+
     /**
      * Handles the logic for a 'Left' movement request.
      *
@@ -65,6 +116,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
+        record(event);
         board.moveBrickLeft();
         return board.getViewData();
     }
@@ -77,6 +129,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
+        record(event);
         board.moveBrickRight();
         return board.getViewData();
     }
@@ -89,16 +142,108 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
+        record(event);
         board.rotateLeftBrick();
         return board.getViewData();
     }
 
+    /**
+     * Handles an 'Undo' request: returns to the moment the previous piece spawned, if the history
+     * still holds it, and redraws the background.
+     *
+     * @param event The move event details.
+     * @return The updated {@link ViewData}.
+     */
+    @Override
+    public ViewData onUndoEvent(MoveEvent event) {
+        record(event);
+        BoardSnapshot snapshot = undoHistory.undo();
+        if (snapshot != null) {
+            board.restore(snapshot);
+            gameView.refreshGameBackground(board.getBoardMatrix());
+        }
+        return board.getViewData();
+    }
+
+    /**
+     * Returns the current state of the board.
+     *
+     * @return The current {@link ViewData}.
+     */
+    @Override
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Returns the game to a captured state and redraws the background. The undo history starts over.
+     *
+     * @param snapshot The state to restore, taken from this controller's board.
+     */
+    public void restore(BoardSnapshot snapshot) {
+        board.restore(snapshot);
+        undoHistory.reset(snapshot);
+        gameView.refreshGameBackground(board.getBoardMatrix());
+    }
+
+    /**
+     * Returns the game to a captured state together with the undo history it had then.
+     *
+     * @param snapshot The state to restore, taken from this controller's board.
+     * @param history  The history to continue from; it is copied, so it can be restored again.
+     */
+    public void restore(BoardSnapshot snapshot, UndoHistory history) {
+        board.restore(snapshot);
+        undoHistory = history.copy();
+        gameView.refreshGameBackground(board.getBoardMatrix());
+    }
+
+    /**
+     * Gets the moves that can currently be taken back.
+     * @return The live {@link UndoHistory}.
+     */
+    public UndoHistory getUndoHistory() {
+        return undoHistory;
+    }
+
+    /**
+     * Starts recording every event handled by this controller.
+     * Must be called before the first event, because a replay starts from the generator seed.
+     *
+     * @param recorder The recorder receiving the events, or null to stop recording.
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Passes an event to the recorder, if one is attached.
+     * @param event The event about to be handled.
+     */
+    private void record(MoveEvent event) {
+        if (recorder != null) {
+            recorder.record(event);
+        }
+    }
+
+    /**
+     * Gets the board driven by this controller.
+     * @return The {@link Board}.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
     /**
      * Resets the game state to start a new game session.
      */
     @Override
     public void createNewGame() {
+        if (recorder != null) {
+            recorder.recordNewGame();
+        }
         board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        undoHistory.reset(board.snapshot());
+        gameView.refreshGameBackground(board.getBoardMatrix());
     }
 }
\ No newline at end of file
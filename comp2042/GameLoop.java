@@ -0,0 +1,195 @@
+package com.comp2042;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Fixed-timestep simulation loop for the game.
+ * Elapsed time is collected in an accumulator and consumed in whole simulation steps, so
+ * gravity and input timing depend only on the step count, not on the frame rate.
+ * Player inputs are queued and applied in order at the start of the next step; the View
+ * renders at most once per frame, however many inputs or steps that frame contained.
+ * This class has no JavaFX dependency and can be driven by any clock.
+ */
+public class GameLoop {
+
+    // Longest frame that is simulated; longer stalls are dropped instead of replayed
+    private static final int MAX_STEPS_PER_FRAME = 10;
+
+    private static final MoveEvent USER_LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent USER_RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent USER_ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent USER_DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent USER_HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent USER_UNDO = new MoveEvent(EventType.UNDO, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+
+    private final InputEventListener eventListener;
+    private final Consumer<ClearRow> clearRowListener;
+    private final long stepNanos;
+    private final int gravitySteps;
+    private final Deque<EventType> pendingInputs = new ArrayDeque<>();
+
+    private long accumulator;
+    private long lastTime = -1;
+    private long tick;
+    private boolean running = true;
+    private ViewData viewData;
+
+    /**
+     * Constructs a loop with the step rate and gravity speed from {@link Config}.
+     *
+     * @param eventListener    The engine that executes the moves.
+     * @param clearRowListener Called for every lock that removed at least one line.
+     */
+    public GameLoop(InputEventListener eventListener, Consumer<ClearRow> clearRowListener) {
+        this(eventListener, clearRowListener, 1_000_000_000L / Config.SIMULATION_RATE,
+                (int) Math.round(Config.MOVE_DOWN_SPEED * Config.SIMULATION_RATE / 1000));
+    }
+
+    /**
+     * Constructs a loop with explicit timing.
+     *
+     * @param eventListener    The engine that executes the moves.
+     * @param clearRowListener Called for every lock that removed at least one line.
+     * @param stepNanos        Length of one simulation step in nanoseconds.
+     * @param gravitySteps     Number of steps between two automatic down moves.
+     */
+    public GameLoop(InputEventListener eventListener, Consumer<ClearRow> clearRowListener,
+                    long stepNanos, int gravitySteps) {
+        this.eventListener = eventListener;
+        this.clearRowListener = clearRowListener;
+        this.stepNanos = stepNanos;
+        this.gravitySteps = gravitySteps;
+    }
+
+    /**
+     * Queues a player input for the next simulation step.
+     *
+     * @param eventType The requested move.
+     */
+    public void enqueue(EventType eventType) {
+        pendingInputs.add(eventType);
+    }
+
+    /**
+     * Advances the simulation to the given time, running as many whole steps as have elapsed.
+     *
+     * @param now The current time in nanoseconds (e.g. the pulse time of an animation timer).
+     * @return true if at least one input or gravity step changed the game, so a redraw is due.
+     */
+    public boolean advance(long now) {
+        if (lastTime < 0) {
+            lastTime = now;
+            return false;
+        }
+        accumulator = Math.min(accumulator + now - lastTime, MAX_STEPS_PER_FRAME * stepNanos);
+        lastTime = now;
+
+        boolean changed = false;
+        while (running && accumulator >= stepNanos) {
+            accumulator -= stepNanos;
+            changed |= step();
+        }
+        return changed;
+    }
+
+    /**
+     * Runs exactly one simulation step: all queued inputs, then gravity if it is due.
+     *
+     * @return true if anything was executed.
+     */
+    public boolean step() {
+        boolean changed = false;
+        while (running && !pendingInputs.isEmpty()) {
+            apply(pendingInputs.poll());
+            changed = true;
+        }
+        tick++;
+        if (running && tick % gravitySteps == 0) {
+            down(GRAVITY);
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Executes a single player input.
+     *
+     * @param eventType The move to execute.
+     */
+    private void apply(EventType eventType) {
+        switch (eventType) {
+            case LEFT -> viewData = eventListener.onLeftEvent(USER_LEFT);
+            case RIGHT -> viewData = eventListener.onRightEvent(USER_RIGHT);
+            case ROTATE -> viewData = eventListener.onRotateEvent(USER_ROTATE);
+            case DOWN -> down(USER_DOWN);
+            case HARD_DROP -> report(eventListener.onHardDropEvent(USER_HARD_DROP));
+            case UNDO -> viewData = eventListener.onUndoEvent(USER_UNDO);
+        }
+    }
+
+    /**
+     * Executes a down move and reports line clears.
+     *
+     * @param event The down event (user soft drop or gravity).
+     */
+    private void down(MoveEvent event) {
+        report(eventListener.onDownEvent(event));
+    }
+
+    /**
+     * Takes over the view of a down move or hard drop and reports its line clears.
+     *
+     * @param downData The result of the move.
+     */
+    private void report(DownData downData) {
+        viewData = downData.getViewData();
+        ClearRow clearRow = downData.getClearRow();
+        if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+            clearRowListener.accept(clearRow);
+        }
+    }
+
+    /**
+     * Stops executing steps, e.g. when the game is over. Queued inputs are kept until {@link #reset()}.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Forgets the last frame time, so time spent paused is not simulated on resume.
+     */
+    public void resetClock() {
+        lastTime = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Prepares the loop for a new game: clears queued inputs, the clock and the step counter.
+     */
+    public void reset() {
+        pendingInputs.clear();
+        resetClock();
+        tick = 0;
+        running = true;
+    }
+
+    /**
+     * Gets the number of simulation steps executed since the last reset.
+     * @return The current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the view data produced by the most recent move.
+     * @return The latest {@link ViewData}, or null if no move was executed yet.
+     */
+    public ViewData getViewData() {
+        return viewData;
+    }
+}
@@ -0,0 +1,42 @@
+package com.comp2042;
+
+/**
+ * Interface defining the callbacks the game engine uses to notify a View.
+ * Implemented by the JavaFX {@link GuiController}, and by headless views that run
+ * the engine without any display.
+ */
+public interface GameView {
+
+    /**
+     * Sets the event listener that receives the View's input events.
+     * @param eventListener The listener implementation (usually the GameController).
+     */
+    void setEventListener(InputEventListener eventListener);
+
+    /**
+     * Prepares the View for a freshly started game.
+     *
+     * @param boardMatrix The initial state of the logical board.
+     * @param viewData    Initial view data for setup.
+     */
+    void initGameView(int[][] boardMatrix, ViewData viewData);
+
+    /**
+     * Connects the View to the score of the current game.
+     * @param score The score to display.
+     */
+    void bindScore(Score score);
+
+    /**
+     * Redraws the whole board background after the state was replaced, e.g. by an undo, a restore or
+     * a new game. Locks and line clears are not reported here: they show up in the row versions of the
+     * next {@link ViewData}.
+     * @param board The 2D integer array representing the board state.
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Notifies the View that the game is over.
+     */
+    void gameOver();
+}
@@ -0,0 +1,143 @@
+package com.comp2042;
+
+import javafx.scene.layout.GridPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+import java.util.Arrays;
+
+/**
+ * {@link BoardRenderer} that shows every cell as its own {@link Rectangle} node in a {@link GridPane}.
+ * It remembers the brick id painted into every rectangle and only calls {@code setFill} on cells
+ * whose id changed, skipping whole rows whose change counter is unchanged.
+ */
+public class GridPaneRenderer implements BoardRenderer {
+
+    private final GridPane gamePanel;
+    private final GridPane brickPanel;
+
+    private Rectangle[][] displayMatrix;
+    private Rectangle[][] nextBrickRectangles; // For the preview
+
+    // Brick ids currently shown by each rectangle, and the row generations they were drawn from
+    private int[][] paintedIds;
+    private int[][] paintedNextIds;
+    private long[] paintedVersions;
+
+    /**
+     * Constructs a renderer that fills the given panels.
+     *
+     * @param gamePanel  The panel holding the main board.
+     * @param brickPanel The panel holding the next brick preview.
+     */
+    public GridPaneRenderer(GridPane gamePanel, GridPane brickPanel) {
+        this.gamePanel = gamePanel;
+        this.brickPanel = brickPanel;
+    }
+
+    /**
+     * Creates one rectangle per visible board cell and 4x4 rectangles for the preview.
+     *
+     * @param boardMatrix The initial state of the logical board.
+     */
+    @Override
+    public void initialize(int[][] boardMatrix) {
+        // 1. Initialize Main Board
+        gamePanel.getChildren().clear();
+        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        paintedIds = new int[boardMatrix.length][boardMatrix[0].length];
+        paintedVersions = new long[boardMatrix.length];
+        Arrays.fill(paintedVersions, -1);
+
+        for (int i = 2; i < boardMatrix.length; i++) {
+            for (int j = 0; j < boardMatrix[i].length; j++) {
+                Rectangle r = new Rectangle(Config.BRICK_SIZE, Config.BRICK_SIZE);
+                r.setFill(Color.TRANSPARENT);
+                displayMatrix[i][j] = r;
+                gamePanel.add(r, j, i - 2);
+            }
+        }
+
+        // 2. Initialize Next Brick Panel
+        brickPanel.getChildren().clear();
+        nextBrickRectangles = new Rectangle[4][4];
+        paintedNextIds = new int[4][4];
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                Rectangle r = new Rectangle(Config.BRICK_SIZE, Config.BRICK_SIZE);
+                r.setFill(Color.TRANSPARENT);
+                nextBrickRectangles[i][j] = r;
+                brickPanel.add(r, j, i);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the main game board grid colors based on the logical matrix.
+     * Only rectangles whose brick id changed are updated.
+     * @param board The 2D integer array representing the board state.
+     */
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        for (int i = 2; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                paintCell(i, j, board[i][j]);
+            }
+        }
+        // The matrix carries no row generations, so the next snapshot compares every row again
+        Arrays.fill(paintedVersions, -1);
+    }
+
+    /**
+     * Updates the rectangles of the rows that changed since they were last drawn.
+     * @param viewData The current view data.
+     */
+    @Override
+    public void drawBoard(ViewData viewData) {
+        for (int i = 2; i < viewData.getRowCount(); i++) {
+            long version = viewData.getRowVersion(i);
+            if (version == paintedVersions[i]) {
+                continue;
+            }
+            for (int j = 0; j < viewData.getColumnCount(); j++) {
+                int id = viewData.getCell(i, j);
+                if (id == 0 && Config.SHOW_GHOST && viewData.getGhostCell(i, j) != 0) {
+                    id = Config.GHOST_ID_OFFSET + viewData.getGhostCell(i, j);
+                }
+                paintCell(i, j, id);
+            }
+            paintedVersions[i] = version;
+        }
+    }
+
+    /**
+     * Sets the fill of a board rectangle if its brick id changed.
+     *
+     * @param row The board row.
+     * @param col The board column.
+     * @param id  The brick id to show.
+     */
+    private void paintCell(int row, int col, int id) {
+        if (paintedIds[row][col] != id) {
+            paintedIds[row][col] = id;
+            displayMatrix[row][col].setFill(Config.getPaintForId(id));
+        }
+    }
+
+    /**
+     * Renders the "Next Brick" preview in the side panel.
+     * @param nextBrick The next brick's shape matrix.
+     */
+    @Override
+    public void drawNextBrick(int[][] nextBrick) {
+        for (int i = 0; i < nextBrick.length; i++) {
+            for (int j = 0; j < nextBrick[i].length; j++) {
+                int id = nextBrick[j][i]; // Transposed read
+                if (paintedNextIds[i][j] != id) {
+                    paintedNextIds[i][j] = id;
+                    nextBrickRectangles[i][j].setFill(Config.getPaintForId(id));
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.comp2042;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import com.comp2042.logic.bot.AutoPlayer;
+import com.comp2042.logic.bot.Heuristic;
+import com.comp2042.replay.ReplayPlayer;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -13,19 +15,25 @@ import javafx.scene.control.ToggleButton;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 import java.net.URL;
 import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The JavaFX Controller class responsible for managing the Graphical User Interface.
- * It handles scene initialization, key input, the game loop timeline, and rendering the board.
+ * It handles scene initialization, key input, the game loop timer, and rendering the board.
+ * Key presses are queued into a fixed-timestep {@link GameLoop}; an {@link AnimationTimer}
+ * advances that loop on every pulse and renders at most once per frame.
+ * Pressing 'B' hands the game to an {@link AutoPlayer}, which places whole pieces between loop steps.
+ * In replay mode the timer drives a {@link ReplayPlayer} instead; '+'/'-' change the playback speed
+ * and the arrow keys seek backwards and forwards.
  */
-public class GuiController implements Initializable {
+public class GuiController implements Initializable, GameView {
+
+    // Pieces skipped by one press of an arrow key in replay mode
+    private static final int REPLAY_SEEK_PIECES = 10;
 
     @FXML private GridPane gamePanel;
     @FXML private GridPane brickPanel; // This is the "Next Brick" panel
@@ -33,14 +41,18 @@ public class GuiController implements Initializable {
     @FXML private GameOverPanel gameOverPanel;
     @FXML private Text scoreText;
 
-    private Rectangle[][] displayMatrix;
-    private Rectangle[][] nextBrickRectangles; // For the preview
+    private BoardRenderer renderer;
 
     private InputEventListener eventListener;
-    private Timeline timeLine;
+    private GameLoop gameLoop;
+    private AnimationTimer timer;
+    private AutoPlayer autoPlayer;
+    private long lastBotMove;
+    private ReplayPlayer replayPlayer;
 
     private final BooleanProperty isPause = new SimpleBooleanProperty(false);
     private final BooleanProperty isGameOver = new SimpleBooleanProperty(false);
+    private final BooleanProperty isAutoPlay = new SimpleBooleanProperty(false);
 
     /**
      * Initializes the controller class. Automatically called after the FXML file has been loaded.
@@ -69,6 +81,10 @@ public class GuiController implements Initializable {
      * @param keyEvent The key event triggered by the user.
      */
     private void handleKeyPressed(KeyEvent keyEvent) {
+        if (replayPlayer != null) {
+            handleReplayKey(keyEvent);
+            return;
+        }
         if (isPause.get() || isGameOver.get()) {
             if (keyEvent.getCode() == KeyCode.N) {
                 newGame(null);
@@ -77,54 +93,120 @@ public class GuiController implements Initializable {
         }
 
         switch (keyEvent.getCode()) {
-            case LEFT, A -> refreshBrick(eventListener.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
-            case RIGHT, D -> refreshBrick(eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
-            case UP, W -> refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
-            case DOWN, S -> moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
+            case LEFT, A -> gameLoop.enqueue(EventType.LEFT);
+            case RIGHT, D -> gameLoop.enqueue(EventType.RIGHT);
+            case UP, W -> gameLoop.enqueue(EventType.ROTATE);
+            case DOWN, S -> gameLoop.enqueue(EventType.DOWN);
+            case SPACE -> gameLoop.enqueue(EventType.HARD_DROP);
+            case Z, BACK_SPACE -> gameLoop.enqueue(EventType.UNDO);
+            case P -> togglePause();
+            case B -> isAutoPlay.set(!isAutoPlay.get());
+        }
+        keyEvent.consume();
+    }
+
+    /**
+     * Handles keyboard input while a replay is shown: pause, playback speed and seeking.
+     *
+     * @param keyEvent The key event triggered by the user.
+     */
+    private void handleReplayKey(KeyEvent keyEvent) {
+        switch (keyEvent.getCode()) {
             case P -> togglePause();
+            case EQUALS, PLUS, ADD -> replayPlayer.setSpeed(replayPlayer.getSpeed() * 2);
+            case MINUS, SUBTRACT -> replayPlayer.setSpeed(replayPlayer.getSpeed() / 2);
+            case LEFT -> seekReplay(replayPlayer.getPieces() - REPLAY_SEEK_PIECES);
+            case RIGHT -> seekReplay(replayPlayer.getPieces() + REPLAY_SEEK_PIECES);
+            case HOME -> seekReplay(0);
         }
         keyEvent.consume();
     }
 
+    /**
+     * Jumps to a piece of the replay and redraws, leaving the game over screen if it is shown.
+     *
+     * @param piece The number of locked pieces to seek to.
+     */
+    private void seekReplay(int piece) {
+        replayPlayer.seekToPiece(Math.max(0, piece));
+        refreshBrick(replayPlayer.getViewData());
+        if (isGameOver.get()) {
+            gameOverPanel.setVisible(false);
+            isGameOver.set(false);
+            timer.start();
+        }
+    }
+
     /**
      * Initializes the graphical representation of the game board and starts the game loop.
      *
      * @param boardMatrix The initial state of the logical board.
      * @param viewData    Initial view data for setup.
      */
+    @Override
     public void initGameView(int[][] boardMatrix, ViewData viewData) {
-        // 1. Initialize Main Board
-        gamePanel.getChildren().clear();
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle r = new Rectangle(Config.BRICK_SIZE, Config.BRICK_SIZE);
-                r.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = r;
-                gamePanel.add(r, j, i - 2);
-            }
-        }
+        // 1. Initialize Board and Next Brick Panel
+        renderer = Config.USE_CANVAS_RENDERER
+                ? new CanvasRenderer(gamePanel, brickPanel)
+                : new GridPaneRenderer(gamePanel, brickPanel);
+        renderer.initialize(boardMatrix);
+        refreshBrick(viewData);
 
-        // 2. Initialize Next Brick Panel
-        brickPanel.getChildren().clear();
-        nextBrickRectangles = new Rectangle[4][4];
-        for (int i = 0; i < 4; i++) {
-            for (int j = 0; j < 4; j++) {
-                Rectangle r = new Rectangle(Config.BRICK_SIZE, Config.BRICK_SIZE);
-                r.setFill(Color.TRANSPARENT);
-                nextBrickRectangles[i][j] = r;
-                brickPanel.add(r, j, i);
+        // 2. Start Game Loop
+        gameLoop = new GameLoop(eventListener, this::showClearRow);
+        autoPlayer = new AutoPlayer(eventListener, viewData.getRowCount(), viewData.getColumnCount(),
+                Heuristic.DEFAULT, ForkJoinPool.commonPool(), Config.BOT_TIME_BUDGET_MS);
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                if (replayPlayer != null) {
+                    if (replayPlayer.advance(now)) {
+                        refreshBrick(replayPlayer.getViewData());
+                    }
+                    return;
+                }
+                if (isAutoPlay.get() && now - lastBotMove >= 1_000_000_000L / Config.BOT_PIECES_PER_SECOND) {
+                    lastBotMove = now;
+                    playBotPiece();
+                    if (isGameOver.get()) {
+                        return;
+                    }
+                }
+                if (gameLoop.advance(now)) {
+                    refreshBrick(gameLoop.getViewData());
+                }
             }
-        }
+        };
+        timer.start();
+    }
+
+    /**
+     * Switches the window to replay mode: the timer drives the given player instead of the game loop.
+     * @param player The replay player, driving the engine this view is attached to.
+     */
+    public void playReplay(ReplayPlayer player) {
+        replayPlayer = player;
+        player.resetClock();
+    }
 
-        // 3. Start Game Loop
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(Config.MOVE_DOWN_SPEED),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+    /**
+     * Gets the number of simulation steps of the current game, used to time recorded actions.
+     * @return The current tick of the game loop.
+     */
+    public long getTick() {
+        return gameLoop.getTick();
+    }
+
+    /**
+     * Lets the auto-player place the current piece and shows the result.
+     */
+    private void playBotPiece() {
+        DownData downData = autoPlayer.playPiece();
+        ClearRow clearRow = downData.getClearRow();
+        if (clearRow.getLinesRemoved() > 0) {
+            showClearRow(clearRow);
+        }
+        refreshBrick(downData.getViewData());
     }
 
     /**
@@ -137,11 +219,12 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Placeholder for drawing the active falling brick.
+     * Draws the board with the active falling brick at its current position.
+     * Only rows that changed since the last frame are repainted.
      * @param viewData Current view data.
      */
     private void drawBoard(ViewData viewData) {
-        // Logic to draw the falling piece could go here
+        renderer.drawBoard(viewData);
     }
 
     /**
@@ -149,55 +232,46 @@ public class GuiController implements Initializable {
      * @param viewData Data containing the next brick's shape matrix.
      */
     private void drawNextBrick(ViewData viewData) {
-        int[][] nextBrick = viewData.getNextBrickData();
-        for (int i = 0; i < nextBrick.length; i++) {
-            for (int j = 0; j < nextBrick[i].length; j++) {
-                nextBrickRectangles[i][j].setFill(Config.getPaintForId(nextBrick[j][i])); // Transposed read
-            }
-        }
+        renderer.drawNextBrick(viewData.getNextBrickData());
     }
 
     /**
      * Refreshes the main game board grid colors based on the logical matrix.
      * @param board The 2D integer array representing the board state.
      */
+    @Override
     public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                displayMatrix[i][j].setFill(Config.getPaintForId(board[i][j]));
-            }
-        }
+        renderer.refreshGameBackground(board);
     }
 
     /**
-     * Processes the "Move Down" action, updates the UI, handles scoring and notifications.
-     * @param event The move event (User or Thread generated).
+     * Shows the floating score notification for a line clear.
+     * @param clearRow The result of the lock that removed lines.
      */
-    private void moveDown(MoveEvent event) {
-        if (isPause.get() || isGameOver.get()) return;
-
-        DownData downData = eventListener.onDownEvent(event);
-
-        // Handle Line Clears
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-            NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-            groupNotification.getChildren().add(notificationPanel);
-            notificationPanel.showScore(groupNotification.getChildren());
-        }
-
-        // Update UI
-        refreshGameBackground(downData.getViewData().getBoardMatrix());
-        drawNextBrick(downData.getViewData());
+    private void showClearRow(ClearRow clearRow) {
+        NotificationPanel notificationPanel = new NotificationPanel("+" + clearRow.getScoreBonus());
+        groupNotification.getChildren().add(notificationPanel);
+        notificationPanel.showScore(groupNotification.getChildren());
     }
 
     /**
      * Sets the event listener to handle input logic callbacks.
      * @param eventListener The listener implementation (usually the GameController).
      */
+    @Override
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
+    /**
+     * Binds the engine score to the UI label through a JavaFX property adapter.
+     * @param score The score of the current game.
+     */
+    @Override
+    public void bindScore(Score score) {
+        bindScore(new ScoreProperty(score));
+    }
+
     /**
      * Binds the score property to the UI label.
      * @param integerProperty The observable score property.
@@ -209,8 +283,10 @@ public class GuiController implements Initializable {
     /**
      * Stops the game loop and displays the Game Over screen.
      */
+    @Override
     public void gameOver() {
-        timeLine.stop();
+        timer.stop();
+        gameLoop.stop();
         gameOverPanel.setVisible(true);
         isGameOver.set(true);
     }
@@ -220,25 +296,30 @@ public class GuiController implements Initializable {
      * @param actionEvent The event that triggered the new game (can be null).
      */
     public void newGame(ActionEvent actionEvent) {
-        timeLine.stop();
+        timer.stop();
         gameOverPanel.setVisible(false);
         eventListener.createNewGame();
+        gameLoop.reset();
         gamePanel.requestFocus();
-        timeLine.play();
+        timer.start();
         isPause.set(false);
         isGameOver.set(false);
     }
 
     /**
-     * Toggles the game pause state. Stops or Resumes the timeline.
+     * Toggles the game pause state. Stops or Resumes the game loop timer.
      */
     private void togglePause() {
         if (isPause.get()) {
             isPause.set(false);
-            timeLine.play();
+            gameLoop.resetClock();
+            if (replayPlayer != null) {
+                replayPlayer.resetClock();
+            }
+            timer.start();
         } else {
             isPause.set(true);
-            timeLine.stop();
+            timer.stop();
         }
     }
 }
@@ -0,0 +1,79 @@
+package com.comp2042;
+
+/**
+ * A {@link GameView} that renders nothing.
+ * Lets the {@link GameController} run on servers and in batch jobs without booting
+ * the JavaFX toolkit; it only records whether the game has ended.
+ */
+public class HeadlessGameView implements GameView {
+
+    private InputEventListener eventListener;
+    private boolean gameOver;
+
+    /**
+     * Stores the listener so callers can drive the game through this view.
+     * @param eventListener The listener implementation (usually the GameController).
+     */
+    @Override
+    public void setEventListener(InputEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Marks the game as running.
+     *
+     * @param boardMatrix The initial state of the logical board.
+     * @param viewData    Initial view data for setup.
+     */
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData viewData) {
+        gameOver = false;
+    }
+
+    /**
+     * Does nothing; the score can be read from the board.
+     * @param score The score of the current game.
+     */
+    @Override
+    public void bindScore(Score score) {
+    }
+
+    /**
+     * Does nothing, there is no background to draw.
+     * @param board The 2D integer array representing the board state.
+     */
+    @Override
+    public void refreshGameBackground(int[][] board) {
+    }
+
+    /**
+     * Records that the game has ended.
+     */
+    @Override
+    public void gameOver() {
+        gameOver = true;
+    }
+
+    /**
+     * Gets the listener that accepts input events for this game.
+     * @return The registered {@link InputEventListener}.
+     */
+    public InputEventListener getEventListener() {
+        return eventListener;
+    }
+
+    /**
+     * Checks whether the game has ended since it was started.
+     * @return true after {@link #gameOver()} was called.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Clears the game over flag, e.g. after the listener started a new game.
+     */
+    public void reset() {
+        gameOver = false;
+    }
+}
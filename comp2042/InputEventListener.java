@@ -13,6 +13,13 @@ public interface InputEventListener {
      */
     DownData onDownEvent(MoveEvent event);
 
+    /**
+     * Called when a 'Hard Drop' action is triggered: the brick falls to its landing row and locks.
+     * @param event The event details.
+     * @return The result of the lock (cleared rows, new view data).
+     */
+    DownData onHardDropEvent(MoveEvent event);
+
     /**
      * Called when a 'Left' action is triggered.
      * @param event The event details.
@@ -34,6 +41,19 @@ public interface InputEventListener {
      */
     ViewData onRotateEvent(MoveEvent event);
 
+    /**
+     * Called when an 'Undo' action is triggered: the last locked piece is taken back.
+     * @param event The event details.
+     * @return The updated view data.
+     */
+    ViewData onUndoEvent(MoveEvent event);
+
+    /**
+     * Returns the current game state without changing it, e.g. for a bot deciding its next move.
+     * @return The current view data.
+     */
+    ViewData getViewData();
+
     /**
      * Called when a request to start a new game is received.
      */
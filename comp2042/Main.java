@@ -1,5 +1,8 @@
 package com.comp2042;
 
+import com.comp2042.replay.ReplayPlayer;
+import com.comp2042.replay.ReplayReader;
+import com.comp2042.replay.ReplayRecorder;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -7,6 +10,12 @@ import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 /**
@@ -16,6 +25,9 @@ import java.util.ResourceBundle;
  */
 public class Main extends Application {
 
+    /** Records the current game to a replay file; null when recording is off or a replay is shown. */
+    private ReplayRecorder recorder;
+
     /**
      * The main entry point for the JavaFX application.
      * Sets up the scene, loads resources, and links the View to the Controller.
@@ -37,7 +49,39 @@ public class Main extends Application {
         Scene scene = new Scene(root, 300, 510);
         primaryStage.setScene(scene);
         primaryStage.show();
-        new GameController(c);
+
+        // --replay=<file> [--speed=n] shows a recorded game instead of starting a new one
+        Map<String, String> options = getParameters().getNamed();
+        if (options.containsKey("replay")) {
+            ReplayReader reader = ReplayReader.open(Paths.get(options.get("replay")));
+            ReplayPlayer player = new ReplayPlayer(reader, ReplayPlayer.createGame(reader, c));
+            player.setSpeed(Integer.parseInt(options.getOrDefault("speed", "1")));
+            c.playReplay(player);
+            return;
+        }
+
+        Board board = new SimpleBoard(25, 10);
+        GameController controller = new GameController(c, board);
+        if (Config.RECORD_REPLAYS) {
+            Path directory = Files.createDirectories(Paths.get(Config.REPLAY_DIRECTORY));
+            String name = "replay-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".trp";
+            recorder = new ReplayRecorder(directory.resolve(name), board,
+                    1_000_000_000L / Config.SIMULATION_RATE, c::getTick);
+            controller.setRecorder(recorder);
+        }
+    }
+
+    /**
+     * Called when the application exits.
+     * Closes the replay recorder, so the last buffered actions reach the replay file.
+     *
+     * @throws Exception If the replay file cannot be written.
+     */
+    @Override
+    public void stop() throws Exception {
+        if (recorder != null) {
+            recorder.close();
+        }
     }
 
     /**
@@ -48,4 +92,4 @@ public class Main extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
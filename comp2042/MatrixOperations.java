@@ -1,21 +1,72 @@
 package com.comp2042;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.comp2042.logic.bricks.BrickShape;
 
 /**
  * Utility class providing static methods for 2D matrix manipulations.
  * Handles collision detection, grid merging, deep copying, and row clearing logic.
+ * Full-row checks go through a {@link RowKernel}, vectorized when the optional {@code vector} source set
+ * is built and the JVM runs with {@code --add-modules jdk.incubator.vector}.
  */
 public class MatrixOperations {
 
+    /** System property that disables the vectorized row kernel when set to {@code false}. */
+    public static final String VECTOR_PROPERTY = "comp2042.vector";
+
+    /** Narrowest row handed to the vector kernel; shorter rows fit no whole vector and stay scalar. */
+    public static final int VECTOR_MIN_COLUMNS = 32;
+
+    private static final RowKernel SCALAR_KERNEL = new ScalarRowKernel();
+    private static final RowKernel VECTOR_KERNEL = loadVectorKernel();
+    private static final RowKernel WIDE_KERNEL = VECTOR_KERNEL != null
+            && !"false".equals(System.getProperty(VECTOR_PROPERTY)) ? VECTOR_KERNEL : SCALAR_KERNEL;
+
     // We don't want to instantiate this utility class
     private MatrixOperations(){
     }
 
+    /**
+     * Loads the Vector API kernel by name, so this class still links when the optional source set was
+     * not built or the incubator module is absent.
+     *
+     * @return The vector kernel, or null if it is not available.
+     */
+    private static RowKernel loadVectorKernel() {
+        try {
+            return (RowKernel) Class.forName("com.comp2042.VectorRowKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the row kernel the matrix operations use for rows of a width.
+     *
+     * @param columns The row length.
+     * @return The vector kernel for rows of at least {@link #VECTOR_MIN_COLUMNS} cells, if it is available
+     *         and not disabled by {@link #VECTOR_PROPERTY}; the scalar kernel otherwise.
+     */
+    public static RowKernel getRowKernel(int columns) {
+        return columns >= VECTOR_MIN_COLUMNS ? WIDE_KERNEL : SCALAR_KERNEL;
+    }
+
+    /**
+     * Gets the scalar row kernel, e.g. to compare it with the vector kernel.
+     * @return The scalar kernel.
+     */
+    public static RowKernel getScalarRowKernel() {
+        return SCALAR_KERNEL;
+    }
+
+    /**
+     * Gets the vectorized row kernel, regardless of {@link #VECTOR_PROPERTY}.
+     * @return The vector kernel, or null if it was not built or the JVM runs without the
+     *         {@code jdk.incubator.vector} module.
+     */
+    public static RowKernel getVectorRowKernel() {
+        return VECTOR_KERNEL;
+    }
+
     /**
      * Checks if a brick collides with existing blocks in the matrix or the board boundaries.
      *
@@ -38,6 +89,27 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks if a precomputed brick shape collides with existing blocks or the board boundaries.
+     * Only the occupied cells of the shape are visited.
+     *
+     * @param matrix The background board matrix.
+     * @param shape  The brick shape to test.
+     * @param x      The x-coordinate (column) of the shape's top-left corner.
+     * @param y      The y-coordinate (row) of the shape's top-left corner.
+     * @return true if a collision is detected or if the brick is out of bounds; false otherwise.
+     */
+    public static boolean intersect(final int[][] matrix, final BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (targetY < 0 || checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Helper method to check if a specific coordinate is outside the matrix dimensions.
      *
@@ -95,6 +167,23 @@ public class MatrixOperations {
         return copy;
     }
 
+    /**
+     * Merges a precomputed brick shape onto a copy of the background matrix.
+     *
+     * @param filledFields The background matrix (static blocks).
+     * @param shape        The brick shape to merge.
+     * @param x            The x-coordinate of the brick.
+     * @param y            The y-coordinate of the brick.
+     * @return A new 2D matrix representing the combination of the background and the brick.
+     */
+    public static int[][] merge(int[][] filledFields, BrickShape shape, int x, int y) {
+        int[][] copy = copy(filledFields);
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            copy[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getColor();
+        }
+        return copy;
+    }
+
     /**
      * Scans the matrix for full rows, removes them, and shifts the upper rows down.
      * Calculates the score bonus based on the number of cleared rows.
@@ -103,44 +192,50 @@ public class MatrixOperations {
      * @return A {@link ClearRow} object containing the number of lines removed, the new matrix, and the score.
      */
     public static ClearRow checkRemoving(final int[][] matrix) {
-        int[][] tmp = new int[matrix.length][matrix[0].length];
-        Deque<int[]> newRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
-
+        int[] fullRows = new int[matrix.length];
+        int count = 0;
         for (int i = 0; i < matrix.length; i++) {
-            int[] tmpRow = new int[matrix[i].length];
-            boolean rowToClear = true;
-            for (int j = 0; j < matrix[0].length; j++) {
-                if (matrix[i][j] == 0) {
-                    rowToClear = false;
-                }
-                tmpRow[j] = matrix[i][j];
-            }
-            if (rowToClear) {
-                clearedRows.add(i);
-            } else {
-                newRows.add(tmpRow);
+            if (isRowFull(matrix[i])) {
+                fullRows[count++] = i;
             }
         }
+        return removeRows(matrix, fullRows, count);
+    }
+
+    /**
+     * Removes the given rows and shifts the rows above them down; the freed rows at the top are empty.
+     * Row arrays are never modified, so the new matrix shares the unchanged ones with the old matrix.
+     *
+     * @param matrix The board matrix.
+     * @param rows   The rows to remove, in ascending order.
+     * @param count  The number of rows to remove.
+     * @return A {@link ClearRow} object containing the number of lines removed, the new matrix, and the score.
+     */
+    public static ClearRow removeRows(final int[][] matrix, int[] rows, int count) {
+        int[][] tmp = new int[matrix.length][];
+        int target = matrix.length - 1;
+        int next = count - 1;
         for (int i = matrix.length - 1; i >= 0; i--) {
-            int[] row = newRows.pollLast();
-            if (row != null) {
-                tmp[i] = row;
+            if (next >= 0 && rows[next] == i) {
+                next--;
             } else {
-                break;
+                tmp[target--] = matrix[i];
             }
         }
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        for (int i = 0; i <= target; i++) {
+            tmp[i] = new int[matrix[0].length];
+        }
+        int scoreBonus = 50 * count * count;
+        return new ClearRow(count, tmp, scoreBonus);
     }
 
     /**
-     * Creates a deep copy of a list of 2D arrays.
+     * Checks whether every cell of a row is filled.
      *
-     * @param list The list of matrices to copy.
-     * @return A new list containing deep copies of the matrices.
+     * @param row The row cells.
+     * @return true if no cell is empty.
      */
-    public static List<int[][]> deepCopyList(List<int[][]> list){
-        return list.stream().map(MatrixOperations::copy).collect(Collectors.toList());
+    private static boolean isRowFull(int[] row) {
+        return getRowKernel(row.length).isFull(row);
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,33 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.BrickShape;
+
 /**
  * Data Transfer Object holding information about the next possible rotation state of a brick.
  * Used by the rotator to validate if a rotation is possible before applying it.
  */
 public final class NextShapeInfo {
 
-    private final int[][] shape;
+    private final BrickShape shape;
     private final int position;
 
     /**
      * Constructs a NextShapeInfo object.
      *
-     * @param shape    The matrix representing the shape of the brick in the next rotation.
+     * @param shape    The shape of the brick in the next rotation.
      * @param position The index of this rotation state.
      */
-    public NextShapeInfo(final int[][] shape, final int position) {
+    public NextShapeInfo(final BrickShape shape, final int position) {
         this.shape = shape;
         this.position = position;
     }
 
     /**
-     * Gets the shape matrix of the next rotation.
-     * @return A copy of the 2D integer array.
+     * Gets the shape of the next rotation.
+     * @return The immutable {@link BrickShape}.
      */
-    public int[][] getShape() {
-        return MatrixOperations.copy(shape);
+    public BrickShape getShape() {
+        return shape;
     }
 
     /**
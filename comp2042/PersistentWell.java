@@ -0,0 +1,258 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Immutable well whose versions share their rows. Every operation returns a new version: rows that
+ * do not change are shared by reference with the previous version, and only the rows a brick touches
+ * are copied, so forking a well costs a row index array plus at most four short rows. Keeping the
+ * previous version is a complete undo. The {@link Zobrist} hash is carried along incrementally.
+ *
+ * <p>Boards keep one as the read-only copy of their well that {@link ViewData} and
+ * {@link BoardSnapshot} share, so consecutive snapshots (e.g. an undo history) hold the same rows.</p>
+ */
+public final class PersistentWell {
+
+    private final int[][] rows;
+    private final int[] emptyRow;
+    private final long[] keys;
+    private final long hash;
+    private final int linesCleared;
+
+    private PersistentWell(int[][] rows, int[] emptyRow, long[] keys, long hash, int linesCleared) {
+        this.rows = rows;
+        this.emptyRow = emptyRow;
+        this.keys = keys;
+        this.hash = hash;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Creates an empty well. All of its rows are one shared empty row.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @return The empty well.
+     */
+    public static PersistentWell empty(int rows, int columns) {
+        int[] emptyRow = new int[columns];
+        int[][] matrix = new int[rows][];
+        for (int row = 0; row < rows; row++) {
+            matrix[row] = emptyRow;
+        }
+        return new PersistentWell(matrix, emptyRow, Zobrist.keys(rows, columns), 0, 0);
+    }
+
+    /**
+     * Creates a well holding a copy of a matrix.
+     *
+     * @param matrix The cells; non-zero cells are filled.
+     * @return The well.
+     */
+    public static PersistentWell of(int[][] matrix) {
+        PersistentWell empty = empty(matrix.length, matrix[0].length);
+        return empty.wrap(MatrixOperations.copy(matrix));
+    }
+
+    /**
+     * Creates a version of this well's size holding the given rows without copying them.
+     *
+     * @param matrix Rows that are never modified afterwards.
+     * @return The well, hashed from scratch.
+     */
+    private PersistentWell wrap(int[][] matrix) {
+        return new PersistentWell(matrix, emptyRow, keys, Zobrist.hash(keys, matrix), 0);
+    }
+
+    /**
+     * Gets the number of rows.
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    /**
+     * Gets the number of columns.
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return emptyRow.length;
+    }
+
+    /**
+     * Gets a cell.
+     *
+     * @param row The row, 0 at the top.
+     * @param col The column.
+     * @return The brick id, or 0 if the cell is empty.
+     */
+    public int getCell(int row, int col) {
+        return rows[row][col];
+    }
+
+    /**
+     * Gets the Zobrist hash of the occupied cells.
+     * @return The hash.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Gets the number of lines the {@link #lock} that produced this version cleared.
+     * @return The lines cleared, 0 for versions made any other way.
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Gets the rows without copying them. The arrays are shared between versions; callers must not
+     * modify them.
+     *
+     * @return The row matrix.
+     */
+    int[][] rows() {
+        return rows;
+    }
+
+    /**
+     * Creates a mutable copy of the cells.
+     * @return A new 2D integer array.
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(rows);
+    }
+
+    /**
+     * Checks if a shape collides with filled cells or the well boundaries.
+     *
+     * @param shape The shape to test.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     * @return true if a cell is out of bounds or already filled.
+     */
+    public boolean intersect(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (targetX < 0 || targetX >= emptyRow.length || targetY < 0 || targetY >= rows.length
+                    || rows[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a shape's cells into a new version. Only the rows the shape covers are copied.
+     *
+     * @param shape The shape to lock; it must not collide.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     * @return The new version.
+     */
+    public PersistentWell place(BrickShape shape, int x, int y) {
+        int[][] next = rows.clone();
+        for (int row = shape.getMinY(); row <= shape.getMaxY(); row++) {
+            if (shape.getRowMask(row) != 0) {
+                next[y + row] = next[y + row].clone();
+            }
+        }
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            next[y + shape.getCellY(i)][x + shape.getCellX(i)] = shape.getColor();
+        }
+        return new PersistentWell(next, emptyRow, keys, Zobrist.place(hash, keys, emptyRow.length, shape, x, y), 0);
+    }
+
+    /**
+     * Places a shape and removes the rows it completed, as a board does when a brick locks.
+     * Only the rows the shape covers are checked.
+     *
+     * @param shape The shape to lock; it must not collide.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     * @return The new version; {@link #getLinesCleared()} tells how many lines it cleared.
+     */
+    public PersistentWell lock(BrickShape shape, int x, int y) {
+        PersistentWell placed = place(shape, x, y);
+        int[] full = new int[shape.getMaxY() - shape.getMinY() + 1];
+        int count = 0;
+        for (int row = y + shape.getMinY(); row <= y + shape.getMaxY(); row++) {
+            if (MatrixOperations.getRowKernel(emptyRow.length).isFull(placed.rows[row])) {
+                full[count++] = row;
+            }
+        }
+        return count == 0 ? placed : placed.removeRows(full, count);
+    }
+
+    /**
+     * Removes rows and lets the rows above them fall. Surviving rows are shared, not copied, and
+     * the rows entering at the top share the empty row. The hash drops the removed rows and re-keys
+     * the rows above them at their new index.
+     *
+     * @param removed The rows to remove, in ascending order.
+     * @param count   The number of rows to remove.
+     * @return The new version.
+     */
+    public PersistentWell removeRows(int[] removed, int count) {
+        if (count == 0) {
+            return this;
+        }
+        int[][] next = rows.clone();
+        long nextHash = hash;
+        int target = removed[count - 1];
+        int pending = count - 1;
+        for (int row = target; row >= 0; row--) {
+            int[] cells = rows[row];
+            if (pending >= 0 && removed[pending] == row) {
+                nextHash ^= Zobrist.rowHash(keys, row, cells);
+                pending--;
+            } else {
+                if (cells != emptyRow && target != row) {
+                    nextHash ^= Zobrist.rowHash(keys, row, cells) ^ Zobrist.rowHash(keys, target, cells);
+                }
+                next[target--] = cells;
+            }
+        }
+        for (int row = 0; row <= target; row++) {
+            next[row] = emptyRow;
+        }
+        return new PersistentWell(next, emptyRow, keys, nextHash, count);
+    }
+
+    /**
+     * Pushes a garbage row in from the bottom (see {@link Board#addGarbageRow(int)}). Every row is
+     * shared and moves up by one; the top row leaves the well.
+     *
+     * @param holeColumn The column left empty in the garbage row.
+     * @return The new version.
+     */
+    public PersistentWell pushGarbage(int holeColumn) {
+        int height = rows.length;
+        int[][] next = new int[height][];
+        long nextHash = hash;
+        for (int row = 0; row < height; row++) {
+            int[] cells = rows[row];
+            if (cells != emptyRow) {
+                nextHash ^= Zobrist.rowHash(keys, row, cells);
+                if (row > 0) {
+                    nextHash ^= Zobrist.rowHash(keys, row - 1, cells);
+                }
+            }
+            if (row > 0) {
+                next[row - 1] = cells;
+            }
+        }
+        int[] garbage = new int[emptyRow.length];
+        for (int col = 0; col < garbage.length; col++) {
+            if (col != holeColumn) {
+                garbage[col] = Board.GARBAGE_ID;
+            }
+        }
+        next[height - 1] = garbage;
+        nextHash ^= Zobrist.rowHash(keys, height - 1, garbage);
+        return new PersistentWell(next, emptyRow, keys, nextHash, 0);
+    }
+}
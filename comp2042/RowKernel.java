@@ -0,0 +1,41 @@
+package com.comp2042;
+
+/**
+ * Whole-row primitives behind {@link MatrixOperations}: zero-cell checks and bulk collision and merge
+ * of equally long rows. The scalar implementation is always available; a SIMD implementation built
+ * on the incubating Vector API is picked instead when it was built and the JVM provides it (see
+ * {@link MatrixOperations#getRowKernel(int)}); it only pays off on wide rows.
+ */
+public interface RowKernel {
+
+    /**
+     * Gets a short name of the implementation, e.g. for benchmark reports.
+     * @return The kernel name.
+     */
+    String getName();
+
+    /**
+     * Checks whether a row has no empty cell.
+     *
+     * @param row The row cells.
+     * @return true if every cell is non-zero.
+     */
+    boolean isFull(int[] row);
+
+    /**
+     * Checks whether two rows have a filled cell in the same column.
+     *
+     * @param row   The background row.
+     * @param cells The row to test against it, of the same length.
+     * @return true if some column is non-zero in both.
+     */
+    boolean collides(int[] row, int[] cells);
+
+    /**
+     * Copies the filled cells of one row over another; empty cells leave the target unchanged.
+     *
+     * @param row   The row to write into.
+     * @param cells The row to merge, of the same length.
+     */
+    void merge(int[] row, int[] cells);
+}
@@ -0,0 +1,170 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Cell storage of a well whose rows live in a circular buffer.
+ * Logical row {@code i} (0 at the top) is the physical row {@code order[(head + i) % rows]}, so rows
+ * are never copied or reallocated: clearing lines only moves entries of the index map and zeroes the
+ * freed rows, and pushing a row in from the bottom just advances {@code head}.
+ */
+final class RowRing {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] cells;
+    private final int[] order;
+    // Scratch list of the physical rows freed by a clear
+    private final int[] freed;
+    private int head;
+
+    /**
+     * Creates an empty well.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     */
+    RowRing(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        cells = new int[rows][columns];
+        order = new int[rows];
+        freed = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Gets the cells of a logical row. The array is the storage itself and moves to another logical
+     * row when the well changes, so it must not be kept.
+     *
+     * @param row The logical row.
+     * @return The row's cells.
+     */
+    int[] row(int row) {
+        return cells[order[physical(row)]];
+    }
+
+    /**
+     * Gets a cell.
+     *
+     * @param row The logical row.
+     * @param col The column.
+     * @return The brick id, or 0 if the cell is empty.
+     */
+    int get(int row, int col) {
+        return cells[order[physical(row)]][col];
+    }
+
+    private int physical(int row) {
+        int index = head + row;
+        return index < rows ? index : index - rows;
+    }
+
+    /**
+     * Checks if a shape collides with filled cells or the well boundaries.
+     *
+     * @param shape The shape to test.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     * @return true if a cell is out of bounds or already filled.
+     */
+    boolean intersect(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int targetX = x + shape.getCellX(i);
+            int targetY = y + shape.getCellY(i);
+            if (targetX < 0 || targetX >= columns || targetY < 0 || targetY >= rows || get(targetY, targetX) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a shape's cells into the well.
+     *
+     * @param shape The shape to lock.
+     * @param x     The column of the shape.
+     * @param y     The row of the shape.
+     */
+    void merge(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            row(y + shape.getCellY(i))[x + shape.getCellX(i)] = shape.getColor();
+        }
+    }
+
+    /**
+     * Removes rows and lets the rows above them fall. The removed physical rows are zeroed and reused
+     * as the new top rows; nothing is copied but index map entries.
+     *
+     * @param removed The logical rows to remove, in ascending order.
+     * @param count   The number of rows to remove.
+     */
+    void removeRows(int[] removed, int count) {
+        if (count == 0) {
+            return;
+        }
+        int target = removed[count - 1];
+        int next = count - 1;
+        // Walk upwards from the lowest removed row, moving survivors down and setting the removed ones aside
+        for (int row = target; row >= 0; row--) {
+            int slot = order[physical(row)];
+            if (next >= 0 && removed[next] == row) {
+                freed[next--] = slot;
+            } else {
+                order[physical(target--)] = slot;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(cells[freed[i]], 0);
+            order[physical(i)] = freed[i];
+        }
+    }
+
+    /**
+     * Pushes every row up by one and returns the new, empty bottom row, e.g. to fill it with garbage.
+     * The top row leaves the well; its cells are discarded.
+     *
+     * @return The cells of the new bottom row.
+     */
+    int[] pushBottom() {
+        int[] bottom = cells[order[head]];
+        Arrays.fill(bottom, 0);
+        head = head + 1 < rows ? head + 1 : 0;
+        return bottom;
+    }
+
+    /**
+     * Empties the well.
+     */
+    void clear() {
+        for (int[] row : cells) {
+            Arrays.fill(row, 0);
+        }
+    }
+
+    /**
+     * Copies the well in logical order.
+     *
+     * @param target A matrix of the well's size receiving the cells.
+     */
+    void copyTo(int[][] target) {
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(row(row), 0, target[row], 0, columns);
+        }
+    }
+
+    /**
+     * Replaces the well's contents.
+     *
+     * @param source A matrix of the well's size, in logical order.
+     */
+    void load(int[][] source) {
+        for (int row = 0; row < rows; row++) {
+            System.arraycopy(source[row], 0, row(row), 0, columns);
+        }
+    }
+}
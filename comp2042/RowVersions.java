@@ -0,0 +1,74 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Per-row generation counters of the rendered board (background plus falling brick).
+ * Every change stamps the affected rows with a new, strictly increasing generation,
+ * so a View can repaint only the rows whose stamp differs from the one it last drew.
+ */
+final class RowVersions {
+
+    private final long[] versions;
+    private long generation;
+
+    /**
+     * Creates the counters for a board.
+     *
+     * @param rows The number of board rows.
+     */
+    RowVersions(int rows) {
+        versions = new long[rows];
+    }
+
+    /**
+     * Stamps the rows covered by a brick shape.
+     *
+     * @param shape The brick shape.
+     * @param y     The y-coordinate of the shape's top-left corner.
+     */
+    void touch(BrickShape shape, int y) {
+        touchRows(y + shape.getMinY(), y + shape.getMaxY());
+    }
+
+    /**
+     * Stamps a range of rows; rows outside the board are ignored.
+     *
+     * @param fromRow The first row (inclusive).
+     * @param toRow   The last row (inclusive).
+     */
+    void touchRows(int fromRow, int toRow) {
+        long stamp = ++generation;
+        for (int row = Math.max(0, fromRow); row <= Math.min(versions.length - 1, toRow); row++) {
+            versions[row] = stamp;
+        }
+    }
+
+    /**
+     * Stamps every row, e.g. after a new game was started.
+     */
+    void touchAll() {
+        Arrays.fill(versions, ++generation);
+    }
+
+    /**
+     * Gets the current generation of a row.
+     *
+     * @param row The board row.
+     * @return The row's generation.
+     */
+    long get(int row) {
+        return versions[row];
+    }
+
+    /**
+     * Copies the current generations, for handing to an immutable snapshot.
+     *
+     * @return A new array with one generation per row.
+     */
+    long[] snapshot() {
+        return versions.clone();
+    }
+}
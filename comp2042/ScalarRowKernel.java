@@ -0,0 +1,41 @@
+package com.comp2042;
+
+/**
+ * Plain loop implementation of the {@link RowKernel}, used when the Vector API is unavailable.
+ */
+final class ScalarRowKernel implements RowKernel {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public boolean isFull(int[] row) {
+        for (int cell : row) {
+            if (cell == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean collides(int[] row, int[] cells) {
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] != 0 && cells[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void merge(int[] row, int[] cells) {
+        for (int i = 0; i < row.length; i++) {
+            if (cells[i] != 0) {
+                row[i] = cells[i];
+            }
+        }
+    }
+}
@@ -1,39 +1,71 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
 
 /**
- * Manages the game score using JavaFX Properties.
- * This allows the UI to automatically update whenever the score changes.
+ * Manages the game score as a plain primitive value.
+ * Views that need change notifications (e.g. JavaFX bindings) register a listener;
+ * headless games pay nothing beyond the addition itself.
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score;
+    private final List<IntConsumer> listeners = new ArrayList<>();
 
     /**
-     * Retrieves the observable integer property for the score.
-     * Used for data binding in the View.
+     * Retrieves the current score.
      *
-     * @return The {@link IntegerProperty} representing the score.
+     * @return The score value.
      */
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
+    /**
+     * Registers a listener that is called with the new value whenever the score changes.
+     *
+     * @param listener The callback receiving the updated score.
+     */
+    public void addListener(IntConsumer listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Adds the specified amount to the current score.
      *
      * @param i The value to add.
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        setValue(score + i);
+    }
+
+    /**
+     * Replaces the score, e.g. when a saved game state is restored.
+     *
+     * @param value The new score.
+     */
+    public void set(int value) {
+        setValue(value);
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        setValue(0);
+    }
+
+    /**
+     * Stores a new score and notifies the listeners.
+     *
+     * @param value The new score.
+     */
+    private void setValue(int value) {
+        score = value;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).accept(value);
+        }
     }
-}
\ No newline at end of file
+}
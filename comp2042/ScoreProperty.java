@@ -0,0 +1,20 @@
+package com.comp2042;
+
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+/**
+ * JavaFX adapter exposing a plain {@link Score} as an observable integer property,
+ * so UI controls can bind to it without the engine depending on JavaFX.
+ */
+public final class ScoreProperty extends ReadOnlyIntegerWrapper {
+
+    /**
+     * Creates a property that mirrors the given score.
+     *
+     * @param score The engine score to follow.
+     */
+    public ScoreProperty(Score score) {
+        super(score.getValue());
+        score.addListener(this::set);
+    }
+}
@@ -2,11 +2,15 @@ package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 
 /**
  * The concrete implementation of the {@link Board} interface.
  * Manages the game grid state, brick generation, movement logic, and scoring.
+ * The well lives in a {@link RowRing}, so locking bricks, clearing lines and pushing garbage rows
+ * update it in place without allocating. A {@link PersistentWell} mirrors it for views and snapshots,
+ * copying only the rows a brick touches.
  */
 public class SimpleBoard implements Board {
 
@@ -14,27 +18,56 @@ public class SimpleBoard implements Board {
     private final int height;
     private final BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
+    private final RowRing well;
+    // Read-only copy of the well shared with ViewData and snapshots, updated by copying only touched rows
+    private PersistentWell view;
+    private final PersistentWell emptyView;
 
     // Coordinates of the current active brick
     private int currentX;
     private int currentY;
+    // Landing row of the current brick, recomputed whenever it moves
+    private int ghostY;
+    // Shapes of the upcoming bricks, shared by the views until the next brick spawns; null when stale
+    private BrickShape[] preview;
 
     private final Score score;
+    private final RowVersions rowVersions;
+    private final BoardStats stats;
+    // Rows covered by the last locked brick, the only ones a clear has to inspect (empty when top > bottom)
+    private int mergedTop;
+    private int mergedBottom = -1;
+    private final int[] fullRows;
 
     /**
      * Constructs a new SimpleBoard with specific dimensions.
      *
-     * @param width  The width of the board (number of columns).
-     * @param height The height of the board (number of rows).
+     * @param width  The number of rows of the board matrix.
+     * @param height The number of columns of the board matrix.
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard that draws its bricks from the given generator.
+     *
+     * @param width          The number of rows of the board matrix.
+     * @param height         The number of columns of the board matrix.
+     * @param brickGenerator The source of bricks, e.g. a seeded generator for reproducible games.
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        well = new RowRing(width, height);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
+        rowVersions = new RowVersions(width);
+        emptyView = PersistentWell.empty(width, height);
+        view = emptyView;
+        stats = new BoardStats(width, height);
+        fullRows = new int[width];
     }
 
     /**
@@ -44,14 +77,16 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         int nextY = currentY + 1;
 
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), currentX, nextY);
+        boolean conflict = well.intersect(brickRotator.getCurrentShape(), currentX, nextY);
         if (conflict) {
             return false;
         } else {
+            touchBrick();
             currentY = nextY;
+            // Falling straight down keeps the landing row
+            touchBrick();
             return true;
         }
     }
@@ -63,14 +98,15 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         int nextX = currentX - 1;
 
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), nextX, currentY);
+        boolean conflict = well.intersect(brickRotator.getCurrentShape(), nextX, currentY);
         if (conflict) {
             return false;
         } else {
+            touchBrick();
             currentX = nextX;
+            brickMoved();
             return true;
         }
     }
@@ -82,14 +118,15 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
         int nextX = currentX + 1;
 
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), nextX, currentY);
+        boolean conflict = well.intersect(brickRotator.getCurrentShape(), nextX, currentY);
         if (conflict) {
             return false;
         } else {
+            touchBrick();
             currentX = nextX;
+            brickMoved();
             return true;
         }
     }
@@ -101,13 +138,14 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), currentX, currentY);
+        BrickShape nextShape = brickRotator.peekNextShape();
+        boolean conflict = well.intersect(nextShape, currentX, currentY);
         if (conflict) {
             return false;
         } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
+            touchBrick();
+            brickRotator.rotate();
+            brickMoved();
             return true;
         }
     }
@@ -120,10 +158,12 @@ public class SimpleBoard implements Board {
     @Override
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
+        preview = null;
         brickRotator.setBrick(currentBrick);
-        currentX = 4; // Reset Position
-        currentY = 2; // Start slightly lower so it's visible
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
+        currentX = SPAWN_X; // Reset Position
+        currentY = SPAWN_Y; // Start slightly lower so it's visible
+        brickMoved();
+        return well.intersect(brickRotator.getCurrentShape(), currentX, currentY);
     }
 
     /**
@@ -133,45 +173,218 @@ public class SimpleBoard implements Board {
      */
     @Override
     public int[][] getBoardMatrix() {
-        return MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
+        return MatrixOperations.merge(viewMatrix(), brickRotator.getCurrentShape(), currentX, currentY);
     }
 
     /**
      * Generates a comprehensive view data object for the UI.
+     * Snapshots share a copy of the well that is only renewed after the background changed.
      *
      * @return {@link ViewData} containing all necessary state info.
      */
     @Override
     public ViewData getViewData() {
-        int[][] combined = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
-
         return new ViewData(
                 brickRotator.getCurrentShape(),
                 currentX,
                 currentY,
-                brickGenerator.getNextBrick().getShapeMatrix().get(0),
-                combined
+                ghostY,
+                preview(),
+                viewMatrix(),
+                rowVersions.snapshot()
         );
     }
 
     /**
-     * Locks the current floating brick into the background matrix.
+     * Gets the shapes of the upcoming bricks. The array is built once per spawned brick and shared by
+     * every {@link ViewData} until the next one spawns.
+     *
+     * @return The preview shapes, the next brick first.
+     */
+    private BrickShape[] preview() {
+        if (preview == null) {
+            BrickShape[] shapes = new BrickShape[brickGenerator.getPreviewDepth()];
+            for (int i = 0; i < shapes.length; i++) {
+                shapes[i] = brickGenerator.peekBrick(i).getShape(0);
+            }
+            preview = shapes;
+        }
+        return preview;
+    }
+
+    /**
+     * Gets the change counter of a row of the rendered board.
+     *
+     * @param row The board row.
+     * @return The row's current generation.
+     */
+    @Override
+    public long getRowVersion(int row) {
+        return rowVersions.get(row);
+    }
+
+    /**
+     * Returns the rows of the shared copy of the well.
+     *
+     * @return A matrix that is never modified afterwards.
+     */
+    private int[][] viewMatrix() {
+        return view.rows();
+    }
+
+    /**
+     * Marks the rows covered by the falling brick and its ghost as changed.
+     */
+    private void touchBrick() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        rowVersions.touch(shape, currentY);
+        rowVersions.touch(shape, ghostY);
+    }
+
+    /**
+     * Recomputes the landing row after the falling brick changed and marks its new rows as changed.
+     */
+    private void brickMoved() {
+        BrickShape shape = brickRotator.getCurrentShape();
+        ghostY = stats.dropRow(shape, currentX);
+        if (ghostY < currentY) {
+            // Tucked under an overhang: the column surfaces are above the brick, so step down instead
+            ghostY = currentY;
+            while (!well.intersect(shape, currentX, ghostY + 1)) {
+                ghostY++;
+            }
+        }
+        touchBrick();
+    }
+
+    /**
+     * Moves the current brick straight down to its landing row.
+     *
+     * @return The number of rows the brick fell.
+     */
+    @Override
+    public int hardDropBrick() {
+        int rows = ghostY - currentY;
+        if (rows > 0) {
+            touchBrick();
+            currentY = ghostY;
+            touchBrick();
+        }
+        return rows;
+    }
+
+    /**
+     * Gets the row the current brick would land on.
+     *
+     * @return The landing row.
+     */
+    @Override
+    public int getGhostY() {
+        return ghostY;
+    }
+
+    /**
+     * Gets the Zobrist hash of the well, carried along by its persistent copy.
+     * @return The hash of the well's occupancy.
+     */
+    @Override
+    public long getHash() {
+        return view.getHash();
+    }
+
+    /**
+     * Gets the incrementally maintained metrics of the background matrix.
+     * @return The {@link BoardStats}.
+     */
+    @Override
+    public BoardStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Locks the current floating brick into the well.
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), currentX, currentY);
+        BrickShape shape = brickRotator.getCurrentShape();
+        well.merge(shape, currentX, currentY);
+        view = view.place(shape, currentX, currentY);
+        stats.place(shape, currentX, currentY);
+        mergedTop = currentY + shape.getMinY();
+        mergedBottom = currentY + shape.getMaxY();
     }
 
     /**
-     * Checks for full rows and clears them.
+     * Clears the full rows. Only a row covered by the last locked brick can have become full, so only
+     * those rows are inspected, using the row fill counters. The ring only remaps its rows and the
+     * persistent copy shares the surviving ones; the resulting matrix is copied only if a caller asks.
      *
      * @return {@link ClearRow} results containing the lines removed and score info.
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int count = 0;
+        for (int row = mergedTop; row <= mergedBottom; row++) {
+            if (stats.isRowFull(row)) {
+                fullRows[count++] = row;
+            }
+        }
+        mergedBottom = -1;
+        if (count == 0) {
+            PersistentWell unchanged = view;
+            return new ClearRow(0, unchanged::rows, 0);
+        }
+        stats.removeRows(well, fullRows, count);
+        well.removeRows(fullRows, count);
+        view = view.removeRows(fullRows, count);
+        rowVersions.touchAll();
+        int scoreBonus = 50 * count * count;
+        PersistentWell cleared = view;
+        return new ClearRow(count, cleared::rows, scoreBonus);
+    }
+
+    /**
+     * Pushes a garbage row in from the bottom. The ring moves all rows by advancing its start and the
+     * metrics shift without rescanning the well.
+     *
+     * @param holeColumn The column left empty in the garbage row.
+     * @return true if filled cells were pushed out of the top or the brick has no room left.
+     * @throws IllegalArgumentException If the column is outside the well.
+     */
+    @Override
+    public boolean addGarbageRow(int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= height) {
+            throw new IllegalArgumentException("Hole column out of range: " + holeColumn);
+        }
+        boolean overflow = stats.getRowFill(0) > 0;
+        int[] bottom = well.pushBottom();
+        for (int col = 0; col < height; col++) {
+            if (col != holeColumn) {
+                bottom[col] = GARBAGE_ID;
+            }
+        }
+        if (overflow) {
+            stats.rebuild(well);
+        } else {
+            stats.pushGarbage(holeColumn);
+        }
+        if (mergedBottom >= 0) {
+            mergedTop = Math.max(0, mergedTop - 1);
+            mergedBottom--;
+        }
+        view = view.pushGarbage(holeColumn);
+
+        BrickShape shape = brickRotator.getCurrentShape();
+        if (well.intersect(shape, currentX, currentY)) {
+            if (currentY + shape.getMinY() > 0) {
+                currentY--;
+            } else {
+                overflow = true;
+            }
+        }
+        rowVersions.touchAll();
+        brickMoved();
+        return overflow;
     }
 
     /**
@@ -183,12 +396,56 @@ public class SimpleBoard implements Board {
         return score;
     }
 
+    /**
+     * Gets the generator this board draws its bricks from.
+     * @return The {@link BrickGenerator}.
+     */
+    @Override
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
+    /**
+     * Captures the game state, sharing the persistent copy of the well.
+     * @return The {@link BoardSnapshot}.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(view, brickRotator.getBrick(), brickRotator.getCurrentRotation(),
+                currentX, currentY, brickGenerator.saveState(), score.getValue());
+    }
+
+    /**
+     * Restores a captured game state.
+     * @param snapshot The state to restore.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        view = snapshot.getWell();
+        well.load(view.rows());
+        stats.rebuild(well);
+        mergedBottom = -1;
+        brickRotator.setBrick(snapshot.getBrick());
+        brickRotator.setCurrentShape(snapshot.getRotation());
+        currentX = snapshot.getX();
+        currentY = snapshot.getY();
+        brickMoved();
+        brickGenerator.restoreState(snapshot.getGeneratorState());
+        preview = null;
+        score.set(snapshot.getScore());
+        rowVersions.touchAll();
+    }
+
     /**
      * Resets the board and score for a new game.
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        well.clear();
+        view = emptyView;
+        stats.reset();
+        mergedBottom = -1;
+        rowVersions.touchAll();
         score.reset();
         createNewBrick();
     }
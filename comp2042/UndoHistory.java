@@ -0,0 +1,109 @@
+package com.comp2042;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The last few moves of a game, for taking them back. A move is one piece: the history keeps the
+ * {@link BoardSnapshot} taken when each piece spawned, so undoing returns the previous piece to the
+ * top of the well with the score and brick sequence it had then. Snapshots share the rows of their
+ * {@link PersistentWell}, so each entry costs a row index array plus the rows its piece changed.
+ */
+public final class UndoHistory {
+
+    /** Number of moves kept by default. */
+    public static final int DEFAULT_CAPACITY = 50;
+
+    private final int capacity;
+    private final Deque<BoardSnapshot> earlier;
+    // Spawn state of the piece currently falling
+    private BoardSnapshot current;
+
+    /**
+     * Creates a history keeping the default number of moves.
+     */
+    public UndoHistory() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a history.
+     *
+     * @param capacity The number of moves that can be taken back.
+     * @throws IllegalArgumentException If the capacity is negative.
+     */
+    public UndoHistory(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative, got " + capacity);
+        }
+        this.capacity = capacity;
+        earlier = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Forgets every move and starts over from the given state, e.g. for a new game.
+     *
+     * @param spawn The state with the first piece just spawned.
+     */
+    public void reset(BoardSnapshot spawn) {
+        earlier.clear();
+        current = spawn;
+    }
+
+    /**
+     * Records that a new piece spawned, making the previous piece's move undoable.
+     * The oldest move is dropped once the capacity is reached.
+     *
+     * @param spawn The state with the new piece just spawned.
+     */
+    public void pieceSpawned(BoardSnapshot spawn) {
+        if (current != null && capacity > 0) {
+            if (earlier.size() == capacity) {
+                earlier.removeFirst();
+            }
+            earlier.addLast(current);
+        }
+        current = spawn;
+    }
+
+    /**
+     * Takes back the last move.
+     *
+     * @return The state to restore, with the previous piece at its spawn position, or null if there is
+     *         no move to take back.
+     */
+    public BoardSnapshot undo() {
+        if (earlier.isEmpty()) {
+            return null;
+        }
+        current = earlier.removeLast();
+        return current;
+    }
+
+    /**
+     * Gets the number of moves that can be taken back.
+     * @return The number of stored moves.
+     */
+    public int size() {
+        return earlier.size();
+    }
+
+    /**
+     * Gets the maximum number of moves kept.
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Copies the history, e.g. to return to it later. The snapshots are immutable and shared.
+     * @return An independent history with the same moves.
+     */
+    public UndoHistory copy() {
+        UndoHistory copy = new UndoHistory(capacity);
+        copy.earlier.addAll(earlier);
+        copy.current = current;
+        return copy;
+    }
+}
@@ -1,39 +1,59 @@
 package com.comp2042;
- 
+
+import com.comp2042.logic.bricks.BrickShape;
+
 /**
  * Immutable Data Transfer Object (DTO) containing a snapshot of the game state
  * required for rendering the view.
+ * The merged board matrix is only built when the View asks for it, so creating a
+ * snapshot after every move costs a single small object.
  */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final BrickShape brick;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
-    private final int[][] boardMatrix;
+    private final int ghostY;
+    private final BrickShape[] preview;
+    private final int[][] background;
+    private final long[] rowVersions;
 
     /**
      * Constructs a new ViewData snapshot.
      *
-     * @param brickData     Matrix of the current falling brick.
-     * @param xPosition     Current X coordinate of the brick.
-     * @param yPosition     Current Y coordinate of the brick.
-     * @param nextBrickData Matrix of the next brick in the queue.
-     * @param boardMatrix   The full state of the board grid.
-     */
-    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int[][] boardMatrix) {
-        this.brickData = brickData;
+     * @param brick       Shape of the current falling brick.
+     * @param xPosition   Current X coordinate of the brick.
+     * @param yPosition   Current Y coordinate of the brick.
+     * @param ghostY      The row the brick would land on if dropped (see {@link Board#getGhostY()}).
+     * @param preview     Shapes of the upcoming bricks, the next one first (see
+     *                    {@link com.comp2042.logic.bricks.BrickGenerator#peekBrick(int)}). The caller
+     *                    must not modify this array afterwards; boards share one per spawned brick.
+     * @param background  The background grid without the falling brick. The caller must not
+     *                    modify this array afterwards (boards hand over a shared copy of their well).
+     * @param rowVersions The change counter of every board row (see {@link Board#getRowVersion(int)}).
+     */
+    public ViewData(BrickShape brick, int xPosition, int yPosition, int ghostY, BrickShape[] preview,
+                    int[][] background, long[] rowVersions) {
+        this.brick = brick;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
-        this.boardMatrix = boardMatrix;
+        this.ghostY = ghostY;
+        this.preview = preview;
+        this.background = background;
+        this.rowVersions = rowVersions;
     }
 
     /**
      * Returns a copy of the current brick matrix.
      * @return 2D integer array.
      */
-    public int[][] getBrickData() { return MatrixOperations.copy(brickData); }
+    public int[][] getBrickData() { return brick.toMatrix(); }
+
+    /**
+     * Returns the shape of the current brick without copying it.
+     * @return The immutable {@link BrickShape}.
+     */
+    public BrickShape getBrickShape() { return brick; }
 
     /**
      * Returns the X position of the current brick.
@@ -47,15 +67,91 @@ public final class ViewData {
      */
     public int getyPosition() { return yPosition; }
 
+    /**
+     * Returns the row the brick would land on if dropped straight down, for drawing the ghost piece.
+     * @return Y coordinate of the ghost.
+     */
+    public int getGhostY() { return ghostY; }
+
     /**
      * Returns a copy of the next brick's matrix (for preview).
      * @return 2D integer array.
      */
-    public int[][] getNextBrickData() { return MatrixOperations.copy(nextBrickData); }
+    public int[][] getNextBrickData() { return preview[0].toMatrix(); }
+
+    /**
+     * Returns the shape of the next brick without copying it.
+     * @return The immutable {@link BrickShape}.
+     */
+    public BrickShape getNextBrickShape() { return preview[0]; }
+
+    /**
+     * Returns the number of upcoming bricks in the preview queue.
+     * @return The preview depth, at least 1.
+     */
+    public int getPreviewCount() { return preview.length; }
+
+    /**
+     * Returns the shape of an upcoming brick without copying it.
+     * @param ahead How many bricks past the next one, from 0 to {@link #getPreviewCount()} - 1.
+     * @return The immutable {@link BrickShape}; 0 gives the next brick.
+     */
+    public BrickShape getPreviewShape(int ahead) { return preview[ahead]; }
 
     /**
-     * Returns a copy of the complete board matrix.
+     * Returns a copy of the complete board matrix, with the falling brick merged in.
      * @return 2D integer array.
      */
-    public int[][] getBoardMatrix() { return MatrixOperations.copy(boardMatrix); }
+    public int[][] getBoardMatrix() { return MatrixOperations.merge(background, brick, xPosition, yPosition); }
+
+    /**
+     * Returns the number of board rows.
+     * @return Row count.
+     */
+    public int getRowCount() { return background.length; }
+
+    /**
+     * Returns the number of board columns.
+     * @return Column count.
+     */
+    public int getColumnCount() { return background[0].length; }
+
+    /**
+     * Returns a single cell of the board with the falling brick merged in, without copying the board.
+     * @param row The board row.
+     * @param col The board column.
+     * @return The brick id of the cell, or 0 if it is empty.
+     */
+    public int getCell(int row, int col) {
+        int brickRow = row - yPosition;
+        int brickCol = col - xPosition;
+        if (brickRow >= 0 && brickRow < brick.getRowCount() && brickCol >= 0 && brickCol < brick.getColumnCount()
+                && brick.getCell(brickRow, brickCol) != 0) {
+            return brick.getCell(brickRow, brickCol);
+        }
+        return background[row][col];
+    }
+
+    /**
+     * Returns the ghost piece's brick id at a cell that is otherwise empty.
+     * @param row The board row.
+     * @param col The board column.
+     * @return The brick id if the ghost covers the cell and neither the brick nor the background does, else 0.
+     */
+    public int getGhostCell(int row, int col) {
+        int ghostRow = row - ghostY;
+        int ghostCol = col - xPosition;
+        if (ghostRow >= 0 && ghostRow < brick.getRowCount() && ghostCol >= 0 && ghostCol < brick.getColumnCount()
+                && brick.getCell(ghostRow, ghostCol) != 0 && getCell(row, col) == 0) {
+            return brick.getCell(ghostRow, ghostCol);
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the change counter of a board row at the time of this snapshot.
+     * @param row The board row.
+     * @return The row's generation.
+     */
+    public long getRowVersion(int row) { return rowVersions[row]; }
 }
@@ -0,0 +1,126 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+/**
+ * Zobrist hashing of the locked cells of a well.
+ * Every cell has a fixed random 64-bit key; the hash of a well is the XOR of the keys of its occupied
+ * cells, so placing a brick or moving a row changes the hash by XOR-ing only the affected keys.
+ * Keys depend only on the board size, so boards, snapshots and searches working on row masks all
+ * agree on the hash of the same well. Brick colors are not part of the hash.
+ */
+public final class Zobrist {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private Zobrist() {
+        // We don't want to instantiate this utility class
+    }
+
+    /**
+     * Creates the key table for a board size. The table is deterministic and may be shared.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     * @return One key per cell, indexed by {@code row * columns + col}.
+     */
+    public static long[] keys(int rows, int columns) {
+        long[] keys = new long[rows * columns];
+        long state = SEED;
+        for (int i = 0; i < keys.length; i++) {
+            // SplitMix64 output function
+            long z = (state += 0x9E3779B97F4A7C15L);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            keys[i] = z ^ (z >>> 31);
+        }
+        return keys;
+    }
+
+    /**
+     * Hashes the occupied cells of one row.
+     *
+     * @param keys    The key table of the board size.
+     * @param columns The number of columns.
+     * @param row     The row index.
+     * @param mask    The row's occupancy mask.
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long rowHash(long[] keys, int columns, int row, int mask) {
+        long hash = 0;
+        int base = row * columns;
+        while (mask != 0) {
+            hash ^= keys[base + Integer.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the occupied cells of one row of a cell matrix, for wells too wide for row masks.
+     *
+     * @param keys  The key table of the board size.
+     * @param row   The row index.
+     * @param cells The row's cells; non-zero cells are occupied.
+     * @return The XOR of the keys of the occupied cells.
+     */
+    public static long rowHash(long[] keys, int row, int[] cells) {
+        long hash = 0;
+        int base = row * cells.length;
+        for (int col = 0; col < cells.length; col++) {
+            if (cells[col] != 0) {
+                hash ^= keys[base + col];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole well from scratch.
+     *
+     * @param keys    The key table of the board size.
+     * @param columns The number of columns.
+     * @param rows    The occupancy mask of every row.
+     * @return The well's hash.
+     */
+    public static long hash(long[] keys, int columns, int[] rows) {
+        long hash = 0;
+        for (int row = 0; row < rows.length; row++) {
+            hash ^= rowHash(keys, columns, row, rows[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes a whole cell matrix from scratch.
+     *
+     * @param keys   The key table of the board size.
+     * @param matrix The well; non-zero cells are occupied.
+     * @return The well's hash.
+     */
+    public static long hash(long[] keys, int[][] matrix) {
+        long hash = 0;
+        for (int row = 0; row < matrix.length; row++) {
+            hash ^= rowHash(keys, row, matrix[row]);
+        }
+        return hash;
+    }
+
+    /**
+     * Updates a hash for a brick locked at a position.
+     *
+     * @param hash    The hash before the brick was placed.
+     * @param keys    The key table of the board size.
+     * @param columns The number of columns.
+     * @param shape   The locked shape.
+     * @param x       The column of the shape.
+     * @param y       The row of the shape.
+     * @return The hash including the brick's cells.
+     */
+    public static long place(long hash, long[] keys, int columns, BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            hash ^= keys[(y + shape.getCellY(i)) * columns + x + shape.getCellX(i)];
+        }
+        return hash;
+    }
+}
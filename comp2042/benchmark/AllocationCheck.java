@@ -0,0 +1,153 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.Board;
+import com.comp2042.BoardSnapshot;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Checks that the move and rotation paths of every {@link BoardType} allocate nothing once warmed up.
+ * Each operation is run in a loop on a board with a falling brick: a few unmeasured warm-up iterations,
+ * so the JIT has compiled the loop and the path it calls, then one iteration measured with the
+ * per-thread allocation counter of the JVM
+ * ({@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}). Sideways moves are undone by
+ * the opposite move and rotations cycle through all four states; soft drops run from the spawn position
+ * to the floor, and the board is reset with {@link Board#restore(BoardSnapshot)} outside the measured
+ * window. The tool prints the bytes per operation and exits with status 1 if any operation allocated.
+ *
+ * <p>Usage: {@code AllocationCheck [--board=simple|bit|all] [--warmup=n] [--operations=n]}</p>
+ */
+public final class AllocationCheck {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    // Consumed results, so the JIT cannot drop the calls
+    private static long sink;
+
+    private AllocationCheck() {
+    }
+
+    /**
+     * A board operation, applied repeatedly from the same start state.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        /**
+         * Runs the operation a number of times, returning the board to its start state between batches
+         * outside the measured window.
+         *
+         * @param board  The board with a falling brick.
+         * @param count  The number of operations to run.
+         * @param window Accumulates the bytes allocated inside the measured calls.
+         */
+        void run(Board board, int count, long[] window);
+    }
+
+    /**
+     * Entry point of the allocation check.
+     *
+     * @param args Command line options, see the class documentation.
+     */
+    public static void main(String[] args) {
+        String boards = "all";
+        int warmup = 2;
+        int operations = 1_000_000;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--board=")) {
+                boards = value.toLowerCase(Locale.ROOT);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--operations=")) {
+                operations = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        boolean failed = false;
+        for (BoardType type : BoardType.values()) {
+            if (!boards.equals("all") && !type.name().equalsIgnoreCase(boards)) {
+                continue;
+            }
+            String name = type.name().toLowerCase(Locale.ROOT);
+            failed |= check(name + ".moveLeftRight", type, AllocationCheck::moveSideways, warmup, operations);
+            failed |= check(name + ".rotate", type, AllocationCheck::rotate, warmup, operations);
+            failed |= check(name + ".moveDown", type, AllocationCheck::moveDown, warmup, operations);
+        }
+        System.out.println("# blackhole " + sink);
+        if (failed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Warms up and measures one operation on a fresh board, then prints its result line.
+     *
+     * @param name       The name shown in the report.
+     * @param type       The board implementation.
+     * @param operation  The operation to check.
+     * @param warmup     The number of unmeasured iterations.
+     * @param operations The number of operations per iteration.
+     * @return true if the measured operations allocated.
+     */
+    private static boolean check(String name, BoardType type, Operation operation, int warmup, int operations) {
+        Board board = type.create(LogicBenchmark.ROWS, LogicBenchmark.COLUMNS,
+                new SevenBagBrickGenerator(LogicBenchmark.SEED));
+        board.createNewBrick();
+        long[] window = new long[1];
+        for (int i = 0; i < warmup; i++) {
+            operation.run(board, operations, window);
+        }
+        window[0] = 0;
+        operation.run(board, operations, window);
+        double bytesPerOp = (double) window[0] / operations;
+        System.out.printf(Locale.ROOT, "%-28s %12d ops %14d B %10.3f B/op  %s%n",
+                name, operations, window[0], bytesPerOp, window[0] == 0 ? "ok" : "ALLOCATES");
+        return window[0] != 0;
+    }
+
+    private static void moveSideways(Board board, int count, long[] window) {
+        long threadId = Thread.currentThread().threadId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i += 2) {
+            if (board.moveBrickLeft()) {
+                sink++;
+            }
+            if (board.moveBrickRight()) {
+                sink++;
+            }
+        }
+        window[0] += THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static void rotate(Board board, int count, long[] window) {
+        long threadId = Thread.currentThread().threadId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < count; i++) {
+            if (board.rotateLeftBrick()) {
+                sink++;
+            }
+        }
+        window[0] += THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static void moveDown(Board board, int count, long[] window) {
+        long threadId = Thread.currentThread().threadId();
+        BoardSnapshot spawn = board.snapshot();
+        int done = 0;
+        while (done < count) {
+            long before = THREADS.getThreadAllocatedBytes(threadId);
+            while (done < count && board.moveBrickDown()) {
+                done++;
+            }
+            window[0] += THREADS.getThreadAllocatedBytes(threadId) - before;
+            // The brick rests on the floor; the failed move counts as an operation too
+            done++;
+            board.restore(spawn);
+        }
+    }
+}
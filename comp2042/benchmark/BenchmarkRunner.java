@@ -0,0 +1,109 @@
+package com.comp2042.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Minimal JMH-style measurement harness for the headless logic layer.
+ * Every benchmark is warmed up, then measured over several timed iterations; the report
+ * shows throughput and the normalized allocation per operation (like JMH's {@code -prof gc}
+ * {@code gc.alloc.rate.norm}), taken from the per-thread allocation counter of the JVM.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * A single benchmark operation.
+     */
+    @FunctionalInterface
+    public interface Operation {
+        /**
+         * Runs the operation once.
+         * @return Any value derived from the work, consumed so the JIT cannot drop the call.
+         */
+        long run();
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+
+    // Consumed results; published once at the end so the work cannot be eliminated
+    private long sink;
+
+    /**
+     * Constructs a runner with the given iteration settings.
+     *
+     * @param warmupIterations      Number of unreported warm-up iterations.
+     * @param measurementIterations Number of measured iterations.
+     * @param iterationMillis       Length of each iteration in milliseconds.
+     */
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    /**
+     * Prints the report header.
+     */
+    public void printHeader() {
+        System.out.printf(Locale.ROOT, "%-40s %16s %12s %18s%n",
+                "Benchmark", "Score", "Units", "alloc.rate.norm");
+    }
+
+    /**
+     * Warms up and measures one benchmark, then prints its result line.
+     *
+     * @param name      The benchmark name shown in the report.
+     * @param operation The operation to measure.
+     */
+    public void run(String name, Operation operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iterate(operation);
+        }
+        long ops = 0;
+        long nanos = 0;
+        long bytes = 0;
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < measurementIterations; i++) {
+            long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            ops += iterate(operation);
+            nanos += System.nanoTime() - start;
+            bytes += THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        double opsPerSecond = ops * 1e9 / nanos;
+        double bytesPerOp = (double) bytes / ops;
+        System.out.printf(Locale.ROOT, "%-40s %16.1f %12s %14.1f B/op%n",
+                name, opsPerSecond, "ops/s", bytesPerOp);
+    }
+
+    /**
+     * Runs the operation in batches until the iteration time has elapsed.
+     *
+     * @param operation The operation to run.
+     * @return The number of operations executed.
+     */
+    private long iterate(Operation operation) {
+        long ops = 0;
+        long deadline = System.nanoTime() + iterationNanos;
+        do {
+            for (int i = 0; i < 64; i++) {
+                sink += operation.run();
+            }
+            ops += 64;
+        } while (System.nanoTime() < deadline);
+        return ops;
+    }
+
+    /**
+     * Gets the accumulated results of all operations.
+     * @return The blackhole value.
+     */
+    public long getSink() {
+        return sink;
+    }
+}
@@ -0,0 +1,37 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.BitBoard;
+import com.comp2042.Board;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * The {@link Board} implementations that can be compared by the headless tools.
+ */
+public enum BoardType {
+    /** The matrix based {@link SimpleBoard}. */
+    SIMPLE {
+        @Override
+        public Board create(int width, int height, BrickGenerator brickGenerator) {
+            return new SimpleBoard(width, height, brickGenerator);
+        }
+    },
+
+    /** The row-bitmask based {@link BitBoard}. */
+    BIT {
+        @Override
+        public Board create(int width, int height, BrickGenerator brickGenerator) {
+            return new BitBoard(width, height, brickGenerator);
+        }
+    };
+
+    /**
+     * Creates a board of this type.
+     *
+     * @param width          The number of rows of the board matrix.
+     * @param height         The number of columns of the board matrix.
+     * @param brickGenerator The source of bricks.
+     * @return A new board.
+     */
+    public abstract Board create(int width, int height, BrickGenerator brickGenerator);
+}
@@ -0,0 +1,319 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameController;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.InputEventListener;
+import com.comp2042.MatrixOperations;
+import com.comp2042.MoveEvent;
+import com.comp2042.PersistentWell;
+import com.comp2042.logic.bot.PlacementEnumerator;
+import com.comp2042.logic.bot.TranspositionCache;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Headless benchmark suite for the game logic layer.
+ * Covers the {@link MatrixOperations} primitives, board move/rotate/drop sequences for every
+ * {@link BoardType}, brick generation and complete games played from a fixed seed.
+ * No JavaFX classes are touched, so it runs on servers without a display.
+ *
+ * <p>Usage: {@code LogicBenchmark [--filter=text] [--board=simple|bit|all] [--warmup=n]
+ * [--iterations=n] [--time=millis]}</p>
+ */
+public final class LogicBenchmark {
+
+    /** Rows of the benchmarked well, matching the game. */
+    static final int ROWS = 25;
+
+    /** Columns of the benchmarked well, matching the game. */
+    static final int COLUMNS = 10;
+
+    /** Seed used for every generator, so all runs see the same brick sequence. */
+    static final long SEED = 42L;
+
+    private LogicBenchmark() {
+    }
+
+    /**
+     * Entry point of the benchmark suite.
+     *
+     * @param args Command line options, see the class documentation.
+     */
+    public static void main(String[] args) {
+        String filter = "";
+        String boards = "all";
+        int warmup = 3;
+        int iterations = 5;
+        long time = 1000;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--filter=")) {
+                filter = value;
+            } else if (arg.startsWith("--board=")) {
+                boards = value.toLowerCase(Locale.ROOT);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(value);
+            } else if (arg.startsWith("--time=")) {
+                time = Long.parseLong(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, time);
+        runner.printHeader();
+        for (Benchmark benchmark : benchmarks(boards)) {
+            if (benchmark.name.contains(filter)) {
+                runner.run(benchmark.name, benchmark.operation);
+            }
+        }
+        System.out.println("# blackhole " + runner.getSink());
+    }
+
+    /**
+     * A named benchmark operation.
+     */
+    private static final class Benchmark {
+        private final String name;
+        private final BenchmarkRunner.Operation operation;
+
+        private Benchmark(String name, BenchmarkRunner.Operation operation) {
+            this.name = name;
+            this.operation = operation;
+        }
+    }
+
+    /**
+     * Builds the list of benchmarks to run.
+     *
+     * @param boards The board types to include ("all" or a {@link BoardType} name).
+     * @return The benchmarks in report order.
+     */
+    private static List<Benchmark> benchmarks(String boards) {
+        List<Benchmark> list = new ArrayList<>();
+
+        int[][] well = sampleWell();
+        BrickShape shape = new RandomBrickGenerator(SEED).getBrick().getShape(0);
+        int[][] brickMatrix = shape.toMatrix();
+        list.add(new Benchmark("matrix.intersect", () ->
+                MatrixOperations.intersect(well, brickMatrix, 4, 10) ? 1 : 0));
+        list.add(new Benchmark("matrix.intersectShape", () ->
+                MatrixOperations.intersect(well, shape, 4, 10) ? 1 : 0));
+        list.add(new Benchmark("matrix.merge", () ->
+                MatrixOperations.merge(well, brickMatrix, 4, 10).length));
+        list.add(new Benchmark("matrix.checkRemoving", () ->
+                MatrixOperations.checkRemoving(well).getLinesRemoved()));
+        list.add(new Benchmark("matrix.copy", () ->
+                MatrixOperations.copy(well).length));
+
+        PersistentWell persistentWell = PersistentWell.of(well);
+        int landingY = 0;
+        while (!persistentWell.intersect(shape, 4, landingY + 1)) {
+            landingY++;
+        }
+        int lockY = landingY;
+        list.add(new Benchmark("persistent.lock", () ->
+                persistentWell.lock(shape, 4, lockY).getHash()));
+
+        BrickGenerator generator = new RandomBrickGenerator(SEED);
+        list.add(new Benchmark("generator.getBrick", () ->
+                generator.getBrick().getRotationCount()));
+        BrickGenerator bagGenerator = new SevenBagBrickGenerator(SEED);
+        list.add(new Benchmark("generator.sevenBag", () ->
+                bagGenerator.getBrick().getRotationCount()));
+
+        int[] wellMasks = new int[ROWS];
+        BitMatrixOperations.toRowMasks(well, wellMasks);
+        PlacementEnumerator enumerator = new PlacementEnumerator(ROWS, COLUMNS);
+        Brick[] bricks = new Brick[7];
+        BrickGenerator brickSource = new RandomBrickGenerator(SEED);
+        for (int i = 0; i < bricks.length; i++) {
+            bricks[i] = brickSource.getBrick();
+        }
+        int[] brickIndex = new int[1];
+        list.add(new Benchmark("bot.enumerate", () ->
+                enumerator.enumerate(wellMasks, bricks[brickIndex[0]++ % bricks.length])));
+        TranspositionCache cache = new TranspositionCache();
+        long[] cacheKey = {SEED};
+        list.add(new Benchmark("bot.transpositionCache", () -> {
+            long key = cacheKey[0] = cacheKey[0] * 0x9E3779B97F4A7C15L + 1;
+            cache.put(key, key);
+            return Double.isNaN(cache.get(key ^ 1)) ? 0 : 1;
+        }));
+
+        for (BoardType type : BoardType.values()) {
+            if (!boards.equals("all") && !boards.equals(type.name().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            String prefix = "board." + type.name().toLowerCase(Locale.ROOT) + ".";
+
+            Board moveBoard = type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED));
+            moveBoard.newGame();
+            list.add(new Benchmark(prefix + "moveRotate", () -> {
+                int moved = 0;
+                moved += moveBoard.moveBrickLeft() ? 1 : 0;
+                moved += moveBoard.moveBrickRight() ? 1 : 0;
+                moved += moveBoard.rotateLeftBrick() ? 1 : 0;
+                moved += moveBoard.moveBrickRight() ? 1 : 0;
+                moved += moveBoard.moveBrickLeft() ? 1 : 0;
+                return moved;
+            }));
+
+            Board dropBoard = type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED));
+            dropBoard.newGame();
+            int[] piece = new int[1];
+            list.add(new Benchmark(prefix + "dropPiece", () -> playPiece(dropBoard, piece[0]++)));
+
+            Board hardDropBoard = type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED));
+            hardDropBoard.newGame();
+            int[] hardDropPiece = new int[1];
+            list.add(new Benchmark(prefix + "hardDropPiece", () ->
+                    playPiece(hardDropBoard, hardDropPiece[0]++, true)));
+
+            list.add(new Benchmark(prefix + "snapshot", () -> dropBoard.snapshot().getScore()));
+
+            Board garbageBoard = type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED));
+            garbageBoard.newGame();
+            int[] garbageRow = new int[1];
+            list.add(new Benchmark(prefix + "garbageRow", () -> {
+                if (garbageBoard.addGarbageRow(garbageRow[0]++ % COLUMNS)) {
+                    garbageBoard.newGame();
+                }
+                return garbageBoard.getStats().getHoles();
+            }));
+
+            list.add(new Benchmark(prefix + "fullGame", () -> {
+                Board board = type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED));
+                board.newGame();
+                int pieces = 0;
+                while (playPiece(board, pieces) >= 0) {
+                    pieces++;
+                }
+                return pieces;
+            }));
+
+            list.add(new Benchmark(prefix + "engineGame", () -> playEngineGame(type)));
+        }
+        return list;
+    }
+
+    /**
+     * Plays one piece with a fixed script: rotate, shift towards a target column, then drop
+     * with repeated soft drops until it locks. A new game is started when the well overflows.
+     *
+     * @param board The board to play on.
+     * @param index The running piece number, used to vary the script deterministically.
+     * @return The number of lines cleared by the piece, or -1 if the game ended.
+     */
+    static int playPiece(Board board, int index) {
+        return playPiece(board, index, false);
+    }
+
+    /**
+     * Plays one piece with the fixed script of {@link #playPiece(Board, int)}, optionally finishing
+     * with a single hard drop instead of repeated soft drops.
+     *
+     * @param board    The board to play on.
+     * @param index    The running piece number, used to vary the script deterministically.
+     * @param hardDrop Whether to hard drop the brick.
+     * @return The number of lines cleared by the piece, or -1 if the game ended.
+     */
+    static int playPiece(Board board, int index, boolean hardDrop) {
+        for (int i = index % 4; i > 0; i--) {
+            board.rotateLeftBrick();
+        }
+        int shift = (index * 3) % COLUMNS - COLUMNS / 2;
+        for (int i = 0; i < Math.abs(shift); i++) {
+            if (shift < 0) {
+                board.moveBrickLeft();
+            } else {
+                board.moveBrickRight();
+            }
+        }
+        if (hardDrop) {
+            board.hardDropBrick();
+        } else {
+            while (board.moveBrickDown()) {
+                // soft drop until the brick rests
+            }
+        }
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        if (board.createNewBrick()) {
+            board.newGame();
+            return -1;
+        }
+        return clearRow.getLinesRemoved();
+    }
+
+    /**
+     * Plays a complete game through the {@link GameController} engine with a headless view,
+     * using the same input script as {@link #playPiece} but expressed as move events.
+     *
+     * @param type The board implementation to play on.
+     * @return The number of pieces played.
+     */
+    static int playEngineGame(BoardType type) {
+        HeadlessGameView view = new HeadlessGameView();
+        InputEventListener engine = new GameController(view,
+                type.create(ROWS, COLUMNS, new RandomBrickGenerator(SEED)));
+        MoveEvent rotate = new MoveEvent(EventType.ROTATE, EventSource.USER);
+        MoveEvent left = new MoveEvent(EventType.LEFT, EventSource.USER);
+        MoveEvent right = new MoveEvent(EventType.RIGHT, EventSource.USER);
+        MoveEvent down = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+        int pieces = 0;
+        while (!view.isGameOver()) {
+            for (int i = pieces % 4; i > 0; i--) {
+                engine.onRotateEvent(rotate);
+            }
+            int shift = (pieces * 3) % COLUMNS - COLUMNS / 2;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) {
+                    engine.onLeftEvent(left);
+                } else {
+                    engine.onRightEvent(right);
+                }
+            }
+            DownData downData;
+            do {
+                downData = engine.onDownEvent(down);
+            } while (downData.getClearRow() == null);
+            pieces++;
+        }
+        return pieces;
+    }
+
+    /**
+     * Builds a representative mid-game well: a ragged stack with two full rows.
+     *
+     * @return The well matrix.
+     */
+    private static int[][] sampleWell() {
+        int[][] well = new int[ROWS][COLUMNS];
+        for (int row = ROWS - 6; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                boolean full = row >= ROWS - 2;
+                if (full || (row * 7 + col * 3) % 4 != 0) {
+                    well[row][col] = 1 + (row + col) % 7;
+                }
+            }
+        }
+        return well;
+    }
+
+}
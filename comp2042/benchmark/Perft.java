@@ -0,0 +1,315 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.Board;
+import com.comp2042.BoardSnapshot;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the game states reachable from a position within a number of pieces, like chess perft.
+ * A piece's successors are the distinct wells it can lock into: every (rotation, x, y) position the
+ * brick reaches from its spawn position with the board's own moves ({@link Board#moveBrickLeft()},
+ * {@link Board#moveBrickRight()}, {@link Board#moveBrickDown()}, {@link Board#rotateLeftBrick()}) is
+ * visited, and each position where it cannot move down is locked with
+ * {@link Board#mergeBrickToBackground()} and {@link Board#clearRows()}. Locks leading to the same well
+ * count once. The bricks come from a seeded 7-bag sequence, so the count at depth {@code n} is the
+ * number of distinct wells after {@code n} pieces, summed over every line of play; lines whose next
+ * brick cannot spawn end early.
+ *
+ * <p>Every state goes through the board API, so the counts cover the move, rotation, merge and clear
+ * logic of a {@link Board} implementation end to end, and the node rate is a single headline number
+ * for its speed. The tool runs every {@link BoardType}, checks that they agree with each other and
+ * with the known counts of the default positions, and exits with status 1 on any mismatch. Subtrees
+ * of the first piece are searched in parallel when more than one thread is given.</p>
+ *
+ * <p>Usage: {@code Perft [--depth=n] [--seed=n] [--garbage=rows] [--board=simple|bit|all] [--threads=n]}</p>
+ */
+public final class Perft {
+
+    /** Seed of the brick sequence used by default and by the known counts. */
+    public static final long DEFAULT_SEED = 1;
+
+    // Node counts at depths 1 to 4 of the default seed, by number of garbage rows. They were confirmed
+    // by an independent count over row bitmasks with the bot's PlacementEnumerator.
+    private static final Map<Integer, long[]> KNOWN = Map.of(
+            0, new long[] {17, 578, 10162, 369602},
+            4, new long[] {17, 578, 10154, 368984});
+
+    // Falling brick positions are packed into 6 bits per coordinate, offset to stay positive
+    private static final int OFFSET = 16;
+    private static final int COORDINATE_BITS = 6;
+
+    private final BoardType boardType;
+    private final long seed;
+    private final int garbage;
+
+    /**
+     * Creates a counter for a start position.
+     *
+     * @param boardType The board implementation to count with.
+     * @param seed      The seed of the brick sequence.
+     * @param garbage   The number of garbage rows in the start well, with seeded hole columns.
+     * @throws IllegalArgumentException if the garbage row count is negative or fills the well.
+     */
+    public Perft(BoardType boardType, long seed, int garbage) {
+        if (garbage < 0 || garbage >= LogicBenchmark.ROWS - 4) {
+            throw new IllegalArgumentException("Garbage rows must be between 0 and " + (LogicBenchmark.ROWS - 5));
+        }
+        this.boardType = boardType;
+        this.seed = seed;
+        this.garbage = garbage;
+    }
+
+    /**
+     * Creates a board in the start position with the first brick spawned.
+     * @return The board.
+     */
+    public Board createStart() {
+        Board board = createBoard();
+        board.createNewBrick();
+        SplittableRandom holes = new SplittableRandom(seed);
+        for (int i = 0; i < garbage; i++) {
+            board.addGarbageRow(holes.nextInt(LogicBenchmark.COLUMNS));
+        }
+        return board;
+    }
+
+    private Board createBoard() {
+        return boardType.create(LogicBenchmark.ROWS, LogicBenchmark.COLUMNS, new SevenBagBrickGenerator(seed));
+    }
+
+    /**
+     * Counts the states reachable within a number of pieces, on the calling thread.
+     *
+     * @param depth The number of pieces to place.
+     * @return The number of leaf states; 1 for depth 0.
+     */
+    public long count(int depth) {
+        Board board = createStart();
+        return count(board, board.snapshot(), depth, new Search());
+    }
+
+    /**
+     * Counts the states reachable within a number of pieces, searching the subtree of every placement
+     * of the first piece as a separate task.
+     *
+     * @param depth The number of pieces to place.
+     * @param pool  The pool searching the subtrees.
+     * @return The number of leaf states; 1 for depth 0.
+     */
+    public long count(int depth, ForkJoinPool pool) {
+        if (depth <= 1) {
+            return count(depth);
+        }
+        Board board = createStart();
+        List<BoardSnapshot> children = new ArrayList<>();
+        expand(board, board.snapshot(), new Search(), children);
+        List<SubtreeTask> tasks = new ArrayList<>(children.size());
+        for (BoardSnapshot child : children) {
+            if (child != null) {
+                tasks.add(new SubtreeTask(child, depth - 1));
+            }
+        }
+        return pool.invoke(new RecursiveTask<Long>() {
+            @Override
+            protected Long compute() {
+                long nodes = 0;
+                for (SubtreeTask task : invokeAll(tasks)) {
+                    nodes += task.join();
+                }
+                return nodes;
+            }
+        });
+    }
+
+    /**
+     * Counts one subtree on a board of its own.
+     */
+    @SuppressWarnings("serial")
+    private final class SubtreeTask extends RecursiveTask<Long> {
+        private final BoardSnapshot state;
+        private final int depth;
+
+        private SubtreeTask(BoardSnapshot state, int depth) {
+            this.state = state;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            return count(createBoard(), state, depth, new Search());
+        }
+    }
+
+    /**
+     * Per-thread search state: the positions seen by the current expansion and its queue.
+     */
+    private static final class Search {
+        private final int[] seen = new int[4 << 2 * COORDINATE_BITS];
+        private final ArrayDeque<BoardSnapshot> queue = new ArrayDeque<>();
+        private final Set<Long> wells = new HashSet<>();
+        private int stamp;
+    }
+
+    private long count(Board board, BoardSnapshot state, int depth, Search search) {
+        if (depth == 0) {
+            return 1;
+        }
+        List<BoardSnapshot> children = new ArrayList<>();
+        expand(board, state, search, children);
+        if (depth == 1) {
+            return children.size();
+        }
+        long nodes = 0;
+        for (BoardSnapshot child : children) {
+            if (child != null) {
+                nodes += count(board, child, depth - 1, search);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Finds the distinct wells the falling brick can lock into.
+     *
+     * @param board    The board to search with; its state is overwritten.
+     * @param state    The state with the brick at its spawn position.
+     * @param search   The calling thread's search state.
+     * @param children Receives one snapshot per distinct well, with the next brick spawned, or null
+     *                 where the next brick cannot spawn.
+     */
+    private static void expand(Board board, BoardSnapshot state, Search search, List<BoardSnapshot> children) {
+        if (++search.stamp == 0) {
+            Arrays.fill(search.seen, 0);
+            search.stamp = 1;
+        }
+        search.wells.clear();
+        ArrayDeque<BoardSnapshot> queue = search.queue;
+        offer(search, state);
+        while (!queue.isEmpty()) {
+            BoardSnapshot current = queue.poll();
+            board.restore(current);
+            // Sideways moves are undone by the opposite move; a rotation needs a restore
+            if (board.moveBrickLeft()) {
+                offer(search, board.snapshot());
+                board.moveBrickRight();
+            }
+            if (board.moveBrickRight()) {
+                offer(search, board.snapshot());
+                board.moveBrickLeft();
+            }
+            if (board.rotateLeftBrick()) {
+                offer(search, board.snapshot());
+                board.restore(current);
+            }
+            if (board.moveBrickDown()) {
+                offer(search, board.snapshot());
+            } else {
+                board.mergeBrickToBackground();
+                board.clearRows();
+                if (search.wells.add(board.getHash())) {
+                    children.add(board.createNewBrick() ? null : board.snapshot());
+                }
+            }
+        }
+    }
+
+    private static void offer(Search search, BoardSnapshot state) {
+        int key = state.getRotation() << 2 * COORDINATE_BITS
+                | (state.getX() + OFFSET) << COORDINATE_BITS
+                | state.getY() + OFFSET;
+        if (search.seen[key] != search.stamp) {
+            search.seen[key] = search.stamp;
+            search.queue.add(state);
+        }
+    }
+
+    /**
+     * Gets the known node counts of a start position.
+     *
+     * @param seed    The seed of the brick sequence.
+     * @param garbage The number of garbage rows.
+     * @return The counts at depths 1, 2, 3, ..., or null if the position has none.
+     */
+    public static long[] getKnownCounts(long seed, int garbage) {
+        return seed == DEFAULT_SEED ? KNOWN.get(garbage) : null;
+    }
+
+    /**
+     * Entry point of the perft tool.
+     *
+     * @param args Command line options, see the class documentation.
+     */
+    public static void main(String[] args) {
+        int depth = 3;
+        long seed = DEFAULT_SEED;
+        int garbage = 0;
+        String boards = "all";
+        int threads = 1;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--depth=")) {
+                depth = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--garbage=")) {
+                garbage = Integer.parseInt(value);
+            } else if (arg.startsWith("--board=")) {
+                boards = value;
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        long[] known = getKnownCounts(seed, garbage);
+        ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        boolean failed = false;
+        try {
+            for (int d = 1; d <= depth; d++) {
+                long reference = -1;
+                for (BoardType type : BoardType.values()) {
+                    if (!boards.equals("all") && !type.name().equalsIgnoreCase(boards)) {
+                        continue;
+                    }
+                    Perft perft = new Perft(type, seed, garbage);
+                    long start = System.nanoTime();
+                    long nodes = pool != null ? perft.count(d, pool) : perft.count(d);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+
+                    String verdict;
+                    if (reference >= 0 && nodes != reference) {
+                        verdict = "MISMATCH with other board (" + reference + ")";
+                    } else if (known != null && d <= known.length && nodes != known[d - 1]) {
+                        verdict = "MISMATCH with known count (" + known[d - 1] + ")";
+                    } else {
+                        verdict = known != null && d <= known.length ? "ok" : "unchecked";
+                    }
+                    failed |= verdict.startsWith("MISMATCH");
+                    reference = reference < 0 ? nodes : reference;
+                    System.out.printf(Locale.ROOT, "perft.%-6s depth %d: %12d nodes %8.2f s %12.0f nodes/s  %s%n",
+                            type.name().toLowerCase(Locale.ROOT), d, nodes, seconds, nodes / seconds, verdict);
+                }
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.comp2042.benchmark;
+
+import com.comp2042.MatrixOperations;
+import com.comp2042.RowKernel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the scalar and the Vector API {@link RowKernel} on wells of 10, 64, 256 and 1024 columns.
+ * Every operation sweeps all rows of a well: full-row detection on a stack of full rows and collision
+ * of a random pattern with an empty well (the worst cases, every cell is read), and merging the
+ * pattern into a well.
+ * The vector kernel is only measured when the optional {@code vector} source set was built and the
+ * JVM runs with {@code --add-modules jdk.incubator.vector}.
+ *
+ * <p>Usage: {@code RowKernelBenchmark [--filter=text] [--warmup=n] [--iterations=n] [--time=millis]}</p>
+ */
+public final class RowKernelBenchmark {
+
+    /** Well widths compared by the suite. */
+    static final int[] WIDTHS = {10, 64, 256, 1024};
+
+    private RowKernelBenchmark() {
+    }
+
+    /**
+     * Entry point of the benchmark suite.
+     *
+     * @param args Command line options, see the class documentation.
+     */
+    public static void main(String[] args) {
+        String filter = "";
+        int warmup = 3;
+        int iterations = 5;
+        long time = 1000;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--filter=")) {
+                filter = value;
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = Integer.parseInt(value);
+            } else if (arg.startsWith("--iterations=")) {
+                iterations = Integer.parseInt(value);
+            } else if (arg.startsWith("--time=")) {
+                time = Long.parseLong(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        List<RowKernel> kernels = new ArrayList<>();
+        kernels.add(MatrixOperations.getScalarRowKernel());
+        if (MatrixOperations.getVectorRowKernel() != null) {
+            kernels.add(MatrixOperations.getVectorRowKernel());
+        } else {
+            System.out.println("# vector kernel unavailable, build the vector source set and run with "
+                    + "--add-modules jdk.incubator.vector");
+        }
+
+        BenchmarkRunner runner = new BenchmarkRunner(warmup, iterations, time);
+        runner.printHeader();
+        for (int width : WIDTHS) {
+            int[][] well = filledWell(width);
+            int[][] pattern = sparsePattern(width);
+            int[][] empty = new int[LogicBenchmark.ROWS][width];
+            for (RowKernel kernel : kernels) {
+                int[][] target = new int[LogicBenchmark.ROWS][width];
+                String prefix = "rows.w" + width + "." + kernel.getName() + ".";
+                if ((prefix + "isFull").contains(filter)) {
+                    runner.run(prefix + "isFull", () -> {
+                        long full = 0;
+                        for (int[] row : well) {
+                            full += kernel.isFull(row) ? 1 : 0;
+                        }
+                        return full;
+                    });
+                }
+                if ((prefix + "collides").contains(filter)) {
+                    runner.run(prefix + "collides", () -> {
+                        long hits = 0;
+                        for (int i = 0; i < pattern.length; i++) {
+                            hits += kernel.collides(empty[i], pattern[i]) ? 1 : 0;
+                        }
+                        return hits;
+                    });
+                }
+                if ((prefix + "merge").contains(filter)) {
+                    runner.run(prefix + "merge", () -> {
+                        for (int i = 0; i < pattern.length; i++) {
+                            kernel.merge(target[i], pattern[i]);
+                        }
+                        return target[0][0];
+                    });
+                }
+            }
+        }
+        System.out.println("# blackhole " + runner.getSink());
+    }
+
+    /**
+     * Builds a well of full rows, so every full-row check reads the whole row.
+     *
+     * @param width The number of columns.
+     * @return The well matrix.
+     */
+    private static int[][] filledWell(int width) {
+        int[][] well = new int[LogicBenchmark.ROWS][width];
+        for (int row = 0; row < well.length; row++) {
+            for (int col = 0; col < width; col++) {
+                well[row][col] = 1 + (row + col) % 7;
+            }
+        }
+        return well;
+    }
+
+    /**
+     * Builds a pattern with about a quarter of its cells filled at random.
+     *
+     * @param width The number of columns.
+     * @return The pattern rows.
+     */
+    private static int[][] sparsePattern(int width) {
+        Random random = new Random(LogicBenchmark.SEED);
+        int[][] pattern = new int[LogicBenchmark.ROWS][width];
+        for (int[] row : pattern) {
+            for (int col = 0; col < width; col++) {
+                if (random.nextInt(4) == 0) {
+                    row[col] = 1 + random.nextInt(7);
+                }
+            }
+        }
+        return pattern;
+    }
+}
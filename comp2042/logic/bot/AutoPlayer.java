@@ -0,0 +1,330 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.ViewData;
+import com.comp2042.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computer player that drives the engine through its {@link InputEventListener}, exactly as key presses would.
+ * For every piece it enumerates the reachable placements of the current brick and scores each one by the
+ * best placement of the previewed next brick, using a {@link Heuristic}. The second-ply searches run in
+ * parallel on a {@link ForkJoinPool}; once the time budget of a move is used up, the remaining candidates
+ * are not searched, so a move is never late by more than one lookahead search. Every candidate is also
+ * scored on the first ply, and a move where some candidate was cut off is ranked on those scores alone:
+ * first- and second-ply scores are never compared with each other. With a budget of zero the player is
+ * purely greedy.
+ * The search is exhaustive over both plies, so it stops at the first preview piece; every deeper ply
+ * would multiply the work by the number of placements. {@link BeamSearchPlayer} searches the whole
+ * preview queue instead.
+ * Lookahead results are kept in a {@link TranspositionCache} keyed by the intermediate well and the next
+ * brick; players sharing a cache and heuristic (e.g. several games on the same seed) reuse each other's
+ * searches, and a cached result is used even after the deadline.
+ */
+public final class AutoPlayer {
+
+    /** Time budget per move used by the short constructor. */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent DOWN = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+
+    private final InputEventListener eventListener;
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] well;
+    private final PlacementEnumerator enumerator;
+    private final ThreadLocal<Worker> workers;
+    private final TranspositionCache cache;
+    private final long[] zobristKeys;
+
+    /**
+     * Creates a player with the default heuristic and time budget on the common pool.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     */
+    public AutoPlayer(InputEventListener eventListener, int rows, int columns) {
+        this(eventListener, rows, columns, Heuristic.DEFAULT, ForkJoinPool.commonPool(), DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     * @param heuristic     The evaluation of candidate wells.
+     * @param pool          The pool running the lookahead searches.
+     * @param budgetMillis  The time budget per move in milliseconds.
+     */
+    public AutoPlayer(InputEventListener eventListener, int rows, int columns, Heuristic heuristic,
+                      ForkJoinPool pool, long budgetMillis) {
+        this(eventListener, rows, columns, heuristic, pool, budgetMillis, new TranspositionCache());
+    }
+
+    /**
+     * Creates a player that stores its lookahead results in the given cache.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     * @param heuristic     The evaluation of candidate wells.
+     * @param pool          The pool running the lookahead searches.
+     * @param budgetMillis  The time budget per move in milliseconds.
+     * @param cache         The lookahead cache; only share it between players using the same heuristic.
+     */
+    public AutoPlayer(InputEventListener eventListener, int rows, int columns, Heuristic heuristic,
+                      ForkJoinPool pool, long budgetMillis, TranspositionCache cache) {
+        this.eventListener = eventListener;
+        this.heuristic = heuristic;
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = BitMatrixOperations.fullRowMask(columns);
+        this.well = new int[rows];
+        this.enumerator = new PlacementEnumerator(rows, columns);
+        this.workers = ThreadLocal.withInitial(() -> new Worker(rows, columns));
+        this.cache = cache;
+        this.zobristKeys = Zobrist.keys(rows, columns);
+    }
+
+    /**
+     * Gets the cache holding this player's lookahead results.
+     * @return The {@link TranspositionCache}.
+     */
+    public TranspositionCache getCache() {
+        return cache;
+    }
+
+    /**
+     * Plays the current piece: searches a placement, executes the moves leading there and hard drops
+     * the brick. Down moves after the last sideways move or rotation are left to the hard drop.
+     *
+     * @return The result of the lock, including cleared rows and the next view.
+     */
+    public DownData playPiece() {
+        return playPath(eventListener, plan());
+    }
+
+    /**
+     * Executes the moves of a placement path and hard drops the brick. Down moves after the last
+     * sideways move or rotation are left to the hard drop.
+     *
+     * @param eventListener The engine to drive.
+     * @param path          The moves from the current position, as returned by {@link PlacementEnumerator#getPath}.
+     * @return The result of the lock.
+     */
+    static DownData playPath(InputEventListener eventListener, List<EventType> path) {
+        int end = path.size();
+        while (end > 0 && path.get(end - 1) == EventType.DOWN) {
+            end--;
+        }
+        for (int i = 0; i < end; i++) {
+            switch (path.get(i)) {
+                case LEFT -> eventListener.onLeftEvent(LEFT);
+                case RIGHT -> eventListener.onRightEvent(RIGHT);
+                case ROTATE -> eventListener.onRotateEvent(ROTATE);
+                case DOWN -> eventListener.onDownEvent(DOWN);
+                default -> throw new IllegalStateException("Unexpected move " + path.get(i));
+            }
+        }
+        return eventListener.onHardDropEvent(HARD_DROP);
+    }
+
+    /**
+     * Chooses a placement for the current piece.
+     *
+     * @return The moves leading from the current position to the chosen placement, without the final
+     *         locking down move; empty if the piece cannot move.
+     */
+    public List<EventType> plan() {
+        long deadline = System.nanoTime() + budgetNanos;
+        ViewData view = eventListener.getViewData();
+        BrickShape shape = view.getBrickShape();
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        readWell(view, well);
+
+        Brick current = Bricks.forId(shape.getColor());
+        Brick next = Bricks.forId(view.getNextBrickShape().getColor());
+        int count = enumerator.enumerate(well, current, shape.getRotation(), x, y);
+        if (count == 0) {
+            return List.of();
+        }
+        long hash = Zobrist.hash(zobristKeys, columns, well);
+        double[] firstPly = new double[count];
+        double[] secondPly = new double[count];
+        pool.invoke(new SearchTask(0, count, next, hash, deadline, firstPly, secondPly));
+
+        double[] scores = secondPly;
+        for (int i = 0; i < count; i++) {
+            if (Double.isNaN(secondPly[i])) {
+                // Some candidate was cut off: rank every candidate on the first ply alone
+                scores = firstPly;
+                break;
+            }
+        }
+        int best = 0;
+        for (int i = 1; i < count; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return enumerator.getPath(best);
+    }
+
+    /**
+     * Reads the locked cells of the board in a view as row bitmasks.
+     *
+     * @param view The current view of the game.
+     * @param well Receives one bitmask per row; its length is the number of rows.
+     */
+    static void readWell(ViewData view, int[] well) {
+        // The view only offers the merged board, so take the falling brick back out
+        int columns = view.getColumnCount();
+        for (int row = 0; row < well.length; row++) {
+            int mask = 0;
+            for (int col = 0; col < columns; col++) {
+                if (view.getCell(row, col) != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            well[row] = mask;
+        }
+        BrickShape shape = view.getBrickShape();
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            well[view.getyPosition() + shape.getCellY(i)] &= ~(1 << (view.getxPosition() + shape.getCellX(i)));
+        }
+    }
+
+    /**
+     * Per-thread search buffers, so parallel tasks never share mutable state. Static, so the pool threads'
+     * thread-local maps never keep the player reachable.
+     */
+    private static final class Worker {
+        private final int[] first;
+        private final int[] second;
+        private final int[] heights;
+        private final PlacementEnumerator enumerator;
+
+        private Worker(int rows, int columns) {
+            first = new int[rows];
+            second = new int[rows];
+            heights = new int[columns];
+            enumerator = new PlacementEnumerator(rows, columns);
+        }
+    }
+
+    /**
+     * Scores a range of first-ply placements, splitting it in halves down to single placements.
+     */
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Brick next;
+        private final long hash;
+        private final long deadline;
+        private final double[] firstPly;
+        private final double[] secondPly;
+
+        private SearchTask(int from, int to, Brick next, long hash, long deadline, double[] firstPly,
+                           double[] secondPly) {
+            this.from = from;
+            this.to = to;
+            this.next = next;
+            this.hash = hash;
+            this.deadline = deadline;
+            this.firstPly = firstPly;
+            this.secondPly = secondPly;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                score(from, next, hash, deadline, firstPly, secondPly);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SearchTask(from, middle, next, hash, deadline, firstPly, secondPly),
+                        new SearchTask(middle, to, next, hash, deadline, firstPly, secondPly));
+            }
+        }
+    }
+
+    /**
+     * Scores one first-ply placement on its own well and by the best follow-up placement of the next brick.
+     *
+     * @param placement The placement index in the shared enumerator (read-only while tasks run).
+     * @param next      The previewed next brick.
+     * @param hash      The Zobrist hash of the current well.
+     * @param deadline  The {@link System#nanoTime()} after which the lookahead is skipped.
+     * @param firstPly  Receives the heuristic value of the well after the placement.
+     * @param secondPly Receives the lookahead score, negative infinity if the next brick cannot spawn,
+     *                  or NaN if the placement was not searched.
+     */
+    private void score(int placement, Brick next, long hash, long deadline, double[] firstPly,
+                       double[] secondPly) {
+        Worker worker = workers.get();
+        BrickShape shape = enumerator.getShape(placement);
+        int x = enumerator.getX(placement);
+        int y = enumerator.getY(placement);
+        System.arraycopy(well, 0, worker.first, 0, rows);
+        BitMatrixOperations.merge(worker.first, shape, x, y);
+        int lines = BitMatrixOperations.removeFullRows(worker.first, fullRowMask);
+        firstPly[placement] = heuristic.evaluate(worker.first, columns, lines, worker.heights);
+        secondPly[placement] = Double.NaN;
+        if (budgetNanos == 0) {
+            return;
+        }
+        // Clears shift rows, so only a clear-free placement can update the hash in place
+        long firstHash = lines == 0
+                ? Zobrist.place(hash, zobristKeys, columns, shape, x, y)
+                : Zobrist.hash(zobristKeys, columns, worker.first);
+
+        // The evaluation is linear in the line count, so the cache holds the lookahead without this ply's lines
+        double lineValue = heuristic.getWeight(Heuristic.LINES) * lines;
+        long key = TranspositionCache.key(firstHash, next.getShape(0).getColor(), 0);
+        double cached = cache.get(key);
+        if (!Double.isNaN(cached)) {
+            secondPly[placement] = cached + lineValue;
+            return;
+        }
+        if (System.nanoTime() - deadline > 0) {
+            return;
+        }
+
+        PlacementEnumerator follow = worker.enumerator;
+        int count = follow.enumerate(worker.first, next);
+        double best = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(worker.first, 0, worker.second, 0, rows);
+            BitMatrixOperations.merge(worker.second, follow.getShape(i), follow.getX(i), follow.getY(i));
+            int cleared = BitMatrixOperations.removeFullRows(worker.second, fullRowMask);
+            best = Math.max(best, heuristic.evaluate(worker.second, columns, cleared, worker.heights));
+        }
+        cache.put(key, best);
+        secondPly[placement] = best + lineValue;
+    }
+}
@@ -0,0 +1,354 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.DownData;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.ViewData;
+import com.comp2042.Zobrist;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computer player that searches the whole preview queue with a beam search.
+ * Depth {@code d} places the {@code d}-th known brick (the current one, then the previewed ones) into
+ * every well of the beam, scores all resulting wells with a {@link Heuristic} that credits every line
+ * cleared on the way, and keeps the best {@code beamWidth} distinct wells as the next beam. Each well
+ * remembers the placement of the current brick it started with; the move played is the one leading to
+ * the best well of the deepest completed depth.
+ *
+ * <p>The wells of a depth are expanded in parallel on a {@link ForkJoinPool}, one task per beam well.
+ * The search is anytime: depth 1 always completes, and a deeper depth that is still running when the
+ * move's deadline passes is abandoned in favour of the best move found so far. The beams and the
+ * candidate lists are preallocated, and the two beams swap roles at every depth, so a search copies
+ * rows into existing buffers instead of allocating wells.</p>
+ */
+public final class BeamSearchPlayer {
+
+    /** Time budget per move used by the short constructor. */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /** Number of wells kept per depth by the short constructor. */
+    public static final int DEFAULT_BEAM_WIDTH = 16;
+
+    /** Number of bricks searched by the short constructor: the current one and five previewed ones. */
+    public static final int DEFAULT_DEPTH = 6;
+
+    private final InputEventListener eventListener;
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int beamWidth;
+    private final long[] zobristKeys;
+    private final int[] well;
+    private final PlacementEnumerator enumerator;
+    private final ThreadLocal<Worker> workers;
+    private final Brick[] pieces;
+
+    // The current beam and the one being filled; swapped after every depth
+    private int[][] beam;
+    private int[] beamLines;
+    private int[] beamRoots;
+    private int[][] nextBeam;
+    private int[] nextLines;
+    private int[] nextRoots;
+    private int beamSize;
+
+    // Candidates of a depth: beam well p writes its placements to slots p * slotsPerWell onwards
+    private final int slotsPerWell;
+    private final int[] candidateCounts;
+    private final BrickShape[] candidateShapes;
+    private final int[] candidateX;
+    private final int[] candidateY;
+    private final int[] candidateLines;
+    private final double[] candidateScores;
+    private final long[] candidateHashes;
+
+    // Best candidate slots of a depth, best first
+    private final int[] selected;
+    private final long[] selectedHashes;
+
+    // Set by tasks that find the deadline passed
+    private volatile boolean expired;
+
+    /**
+     * Creates a player with the default heuristic, time budget, beam width and depth on the common pool.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     */
+    public BeamSearchPlayer(InputEventListener eventListener, int rows, int columns) {
+        this(eventListener, rows, columns, Heuristic.DEFAULT, ForkJoinPool.commonPool(), DEFAULT_BUDGET_MILLIS,
+                DEFAULT_BEAM_WIDTH, DEFAULT_DEPTH);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     * @param heuristic     The evaluation of candidate wells.
+     * @param pool          The pool expanding the beam.
+     * @param budgetMillis  The time budget per move in milliseconds.
+     * @param beamWidth     The number of wells kept per depth.
+     * @param depth         The maximum number of bricks searched, limited by the preview of the game.
+     * @throws IllegalArgumentException if the beam width or depth is not positive.
+     */
+    public BeamSearchPlayer(InputEventListener eventListener, int rows, int columns, Heuristic heuristic,
+                            ForkJoinPool pool, long budgetMillis, int beamWidth, int depth) {
+        if (beamWidth <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Beam width and depth must be positive");
+        }
+        this.eventListener = eventListener;
+        this.heuristic = heuristic;
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = BitMatrixOperations.fullRowMask(columns);
+        this.beamWidth = beamWidth;
+        this.zobristKeys = Zobrist.keys(rows, columns);
+        this.well = new int[rows];
+        this.enumerator = new PlacementEnumerator(rows, columns);
+        this.workers = ThreadLocal.withInitial(() -> new Worker(rows, columns));
+        this.pieces = new Brick[depth];
+
+        beam = new int[beamWidth][rows];
+        beamLines = new int[beamWidth];
+        beamRoots = new int[beamWidth];
+        nextBeam = new int[beamWidth][rows];
+        nextLines = new int[beamWidth];
+        nextRoots = new int[beamWidth];
+
+        slotsPerWell = enumerator.getCapacity();
+        int slots = beamWidth * slotsPerWell;
+        candidateCounts = new int[beamWidth];
+        candidateShapes = new BrickShape[slots];
+        candidateX = new int[slots];
+        candidateY = new int[slots];
+        candidateLines = new int[slots];
+        candidateScores = new double[slots];
+        candidateHashes = new long[slots];
+        selected = new int[beamWidth];
+        selectedHashes = new long[beamWidth];
+    }
+
+    /**
+     * Plays the current piece: searches a placement, executes the moves leading there and hard drops
+     * the brick.
+     *
+     * @return The result of the lock, including cleared rows and the next view.
+     */
+    public DownData playPiece() {
+        return AutoPlayer.playPath(eventListener, plan());
+    }
+
+    /**
+     * Chooses a placement for the current piece.
+     *
+     * @return The moves leading from the current position to the chosen placement, without the final
+     *         locking down move; empty if the piece cannot move.
+     */
+    public List<EventType> plan() {
+        long deadline = System.nanoTime() + budgetNanos;
+        ViewData view = eventListener.getViewData();
+        BrickShape shape = view.getBrickShape();
+        AutoPlayer.readWell(view, well);
+        int depth = Math.min(pieces.length, 1 + view.getPreviewCount());
+        pieces[0] = Bricks.forId(shape.getColor());
+        for (int d = 1; d < depth; d++) {
+            pieces[d] = Bricks.forId(view.getPreviewShape(d - 1).getColor());
+        }
+
+        // Depth 1 starts from the falling brick's position, so it is expanded here with the root enumerator
+        int count = enumerator.enumerate(well, pieces[0], shape.getRotation(), view.getxPosition(),
+                view.getyPosition());
+        if (count == 0) {
+            return List.of();
+        }
+        Worker worker = workers.get();
+        candidateCounts[0] = count;
+        for (int i = 0; i < count; i++) {
+            score(worker, well, 0, 0, i, enumerator.getShape(i), enumerator.getX(i), enumerator.getY(i));
+        }
+        beamSize = 1;
+        int selectedCount = select();
+        advance(selectedCount, true);
+
+        expired = false;
+        for (int d = 1; d < depth && System.nanoTime() - deadline < 0; d++) {
+            pool.invoke(new ExpandTask(0, beamSize, pieces[d], deadline));
+            if (expired) {
+                break;
+            }
+            selectedCount = select();
+            if (selectedCount == 0) {
+                // Every line of play tops out here; the previous depth still ranks the moves
+                break;
+            }
+            advance(selectedCount, false);
+        }
+        return enumerator.getPath(beamRoots[0]);
+    }
+
+    /**
+     * Places a brick into a copy of a beam well and records the result as a candidate.
+     *
+     * @param worker      The calling thread's buffers.
+     * @param parent      The well to place into.
+     * @param parentLines The lines cleared on the way to the parent well.
+     * @param index       The index of the well in the beam.
+     * @param slot        The placement number within the well's slots.
+     * @param shape       The shape of the placed brick.
+     * @param x           The column of the shape.
+     * @param y           The row of the shape.
+     */
+    private void score(Worker worker, int[] parent, int parentLines, int index, int slot, BrickShape shape,
+                       int x, int y) {
+        int[] scratch = worker.scratch;
+        System.arraycopy(parent, 0, scratch, 0, rows);
+        BitMatrixOperations.merge(scratch, shape, x, y);
+        int lines = parentLines + BitMatrixOperations.removeFullRows(scratch, fullRowMask);
+        int at = index * slotsPerWell + slot;
+        candidateShapes[at] = shape;
+        candidateX[at] = x;
+        candidateY[at] = y;
+        candidateLines[at] = lines;
+        candidateScores[at] = heuristic.evaluate(scratch, columns, lines, worker.heights);
+        candidateHashes[at] = Zobrist.hash(zobristKeys, columns, scratch);
+    }
+
+    /**
+     * Picks the best candidates with pairwise different wells into {@link #selected}.
+     *
+     * @return The number of candidates picked, at most the beam width.
+     */
+    private int select() {
+        int size = 0;
+        for (int index = 0; index < beamSize; index++) {
+            int end = index * slotsPerWell + candidateCounts[index];
+            for (int at = index * slotsPerWell; at < end; at++) {
+                double score = candidateScores[at];
+                if (size == beamWidth && score <= candidateScores[selected[size - 1]] || contains(size, at)) {
+                    continue;
+                }
+                // Insertion into the sorted list, dropping the worst entry when it is full
+                int position = size < beamWidth ? size++ : size - 1;
+                while (position > 0 && candidateScores[selected[position - 1]] < score) {
+                    selected[position] = selected[position - 1];
+                    selectedHashes[position] = selectedHashes[position - 1];
+                    position--;
+                }
+                selected[position] = at;
+                selectedHashes[position] = candidateHashes[at];
+            }
+        }
+        return size;
+    }
+
+    private boolean contains(int size, int at) {
+        long hash = candidateHashes[at];
+        for (int i = 0; i < size; i++) {
+            if (selectedHashes[i] == hash) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the next beam from the selected candidates and makes it the current one.
+     *
+     * @param count The number of selected candidates.
+     * @param first Whether the candidates were placed into the root well, i.e. this is depth 1.
+     */
+    private void advance(int count, boolean first) {
+        for (int i = 0; i < count; i++) {
+            int at = selected[i];
+            int index = at / slotsPerWell;
+            int[] target = nextBeam[i];
+            System.arraycopy(first ? well : beam[index], 0, target, 0, rows);
+            BitMatrixOperations.merge(target, candidateShapes[at], candidateX[at], candidateY[at]);
+            BitMatrixOperations.removeFullRows(target, fullRowMask);
+            nextLines[i] = candidateLines[at];
+            nextRoots[i] = first ? at % slotsPerWell : beamRoots[index];
+        }
+        int[][] wells = beam;
+        beam = nextBeam;
+        nextBeam = wells;
+        int[] lines = beamLines;
+        beamLines = nextLines;
+        nextLines = lines;
+        int[] roots = beamRoots;
+        beamRoots = nextRoots;
+        nextRoots = roots;
+        beamSize = count;
+    }
+
+    /**
+     * Per-thread search buffers, so parallel tasks never share mutable state. Static, so the pool threads'
+     * thread-local maps never keep the player reachable.
+     */
+    private static final class Worker {
+        private final int[] scratch;
+        private final int[] heights;
+        private final PlacementEnumerator enumerator;
+
+        private Worker(int rows, int columns) {
+            scratch = new int[rows];
+            heights = new int[columns];
+            enumerator = new PlacementEnumerator(rows, columns);
+        }
+    }
+
+    /**
+     * Expands a range of beam wells, splitting it in halves down to single wells.
+     */
+    @SuppressWarnings("serial")
+    private final class ExpandTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Brick brick;
+        private final long deadline;
+
+        private ExpandTask(int from, int to, Brick brick, long deadline) {
+            this.from = from;
+            this.to = to;
+            this.brick = brick;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ExpandTask(from, middle, brick, deadline), new ExpandTask(middle, to, brick, deadline));
+                return;
+            }
+            if (expired || System.nanoTime() - deadline > 0) {
+                expired = true;
+                return;
+            }
+            Worker worker = workers.get();
+            PlacementEnumerator placements = worker.enumerator;
+            int[] parent = beam[from];
+            int count = placements.enumerate(parent, brick);
+            for (int i = 0; i < count; i++) {
+                score(worker, parent, beamLines[from], from, i, placements.getShape(i), placements.getX(i),
+                        placements.getY(i));
+            }
+            candidateCounts[from] = count;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.comp2042.logic.bot;
+
+import java.util.Arrays;
+
+/**
+ * Linear evaluation of a well after a placement: a weighted sum of board features.
+ * The well is read as row bitmasks (row 0 at the top), so the row features are gathered in
+ * a single sweep from top to bottom and the column features from the heights that sweep finds.
+ * Instances are immutable and can be shared between threads.
+ */
+public final class Heuristic {
+
+    /** Feature index: sum of all column heights. */
+    public static final int AGGREGATE_HEIGHT = 0;
+
+    /** Feature index: number of lines cleared by the placement(s). */
+    public static final int LINES = 1;
+
+    /** Feature index: empty cells with a filled cell somewhere above them. */
+    public static final int HOLES = 2;
+
+    /** Feature index: sum of the height differences of neighbouring columns. */
+    public static final int BUMPINESS = 3;
+
+    /**
+     * Feature index: changes between filled and empty cells along the rows of the stack, with the
+     * side walls counting as filled.
+     */
+    public static final int ROW_TRANSITIONS = 4;
+
+    /**
+     * Feature index: depth of the wells, i.e. columns lower than both neighbours (or a neighbour and
+     * a wall). A well of depth {@code d} counts {@code 1 + 2 + ... + d}, since deep wells need ever
+     * more specific pieces.
+     */
+    public static final int WELLS = 5;
+
+    /** Number of features, i.e. the length of the weight vector. */
+    public static final int FEATURE_COUNT = 6;
+
+    /** Well-known hand-tuned weights that clear lines steadily on a 10-column well. */
+    public static final Heuristic DEFAULT = new Heuristic(-0.510066, 0.760666, -0.35663, -0.184483, 0, 0);
+
+    private final double[] weights;
+
+    /**
+     * Creates a heuristic from a weight vector.
+     *
+     * @param weights One weight per feature, indexed by the feature constants.
+     * @throws IllegalArgumentException if the vector does not have {@link #FEATURE_COUNT} entries.
+     */
+    public Heuristic(double... weights) {
+        if (weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights but got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Gets the weight of a feature.
+     *
+     * @param feature The feature index.
+     * @return The weight.
+     */
+    public double getWeight(int feature) {
+        return weights[feature];
+    }
+
+    /**
+     * Gets the weight vector.
+     * @return A copy of the weights, indexed by the feature constants.
+     */
+    public double[] getWeights() {
+        return weights.clone();
+    }
+
+    /**
+     * Scores a well; higher is better. Allocates nothing.
+     *
+     * @param well    The occupied cells, one bitmask per row.
+     * @param columns The number of columns of the well.
+     * @param lines   The number of lines cleared on the way to this well.
+     * @param heights Scratch array of at least {@code columns} entries; receives the column heights.
+     * @return The weighted feature sum.
+     */
+    public double evaluate(int[] well, int columns, int lines, int[] heights) {
+        Arrays.fill(heights, 0, columns, 0);
+        int rows = well.length;
+        int seen = 0;
+        int aggregateHeight = 0;
+        int holes = 0;
+        int rowTransitions = 0;
+        long walls = 1L | 1L << (columns + 1);
+        long pairs = (1L << (columns + 1)) - 1;
+        for (int row = 0; row < rows; row++) {
+            int mask = well[row];
+            // Columns whose topmost block is in this row
+            int tops = mask & ~seen;
+            while (tops != 0) {
+                heights[Integer.numberOfTrailingZeros(tops)] = rows - row;
+                aggregateHeight += rows - row;
+                tops &= tops - 1;
+            }
+            holes += Integer.bitCount(seen & ~mask);
+            seen |= mask;
+            if (seen != 0) {
+                long cells = Integer.toUnsignedLong(mask) << 1 | walls;
+                rowTransitions += Long.bitCount((cells ^ cells >>> 1) & pairs);
+            }
+        }
+        int bumpiness = 0;
+        for (int col = 1; col < columns; col++) {
+            bumpiness += Math.abs(heights[col] - heights[col - 1]);
+        }
+        int wells = 0;
+        for (int col = 0; col < columns; col++) {
+            // The walls are as high as the well
+            int left = col == 0 ? rows : heights[col - 1];
+            int right = col == columns - 1 ? rows : heights[col + 1];
+            int depth = Math.min(left, right) - heights[col];
+            if (depth > 0) {
+                wells += depth * (depth + 1) / 2;
+            }
+        }
+        return weights[AGGREGATE_HEIGHT] * aggregateHeight
+                + weights[LINES] * lines
+                + weights[HOLES] * holes
+                + weights[BUMPINESS] * bumpiness
+                + weights[ROW_TRANSITIONS] * rowTransitions
+                + weights[WELLS] * wells;
+    }
+}
@@ -0,0 +1,364 @@
+package com.comp2042.logic.bot;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Offline optimizer for the weights of a {@link Heuristic}, in the style of the cross-entropy method and
+ * CMA-ES with a diagonal covariance. Every generation samples a population of weight vectors around the
+ * current mean, scores each candidate by the lines it clears in a set of seeded {@link TrainingGame}s,
+ * and moves the mean and the per-feature spread towards the best candidates. All games of all
+ * candidates are played as one range of tasks on a {@link ForkJoinPool}, so idle threads steal the
+ * games of slow candidates.
+ *
+ * <p>Only the direction of a weight vector matters to a greedy player, so candidates are normalised to
+ * unit length. All candidates of a generation play the same seeds, which are derived from the tuner
+ * seed and the generation number like the sampling itself, so a run resumed from a checkpoint continues
+ * exactly as if it had not been interrupted.</p>
+ *
+ * <p>Usage: {@code HeuristicTuner [--generations=n] [--population=n] [--elite=n] [--games=n]
+ * [--max-pieces=n] [--threads=n] [--seed=n] [--checkpoint=file]}. With a checkpoint file the state is
+ * saved after every generation and an existing file is resumed; the run stops once the given number of
+ * generations has been reached in total.</p>
+ */
+public final class HeuristicTuner {
+
+    /** Number of rows of the training wells. */
+    public static final int ROWS = 25;
+
+    /** Number of columns of the training wells. */
+    public static final int COLUMNS = 10;
+
+    // Fraction of the old spread kept per generation, so it does not collapse on one lucky elite
+    private static final double SMOOTHING = 0.3;
+    private static final double MIN_SIGMA = 0.01;
+    private static final double INITIAL_SIGMA = 0.5;
+
+    private final ForkJoinPool pool;
+    private final long seed;
+    private final int population;
+    private final int elite;
+    private final int games;
+    private final int maxPieces;
+    private final ThreadLocal<TrainingGame> trainingGames =
+            ThreadLocal.withInitial(() -> new TrainingGame(ROWS, COLUMNS));
+
+    private int generation;
+    private double[] mean;
+    private double[] sigma;
+    private double[] best;
+    private double bestFitness;
+
+    /**
+     * Creates a tuner starting from the {@link Heuristic#DEFAULT} weights.
+     *
+     * @param pool       The pool playing the evaluation games.
+     * @param seed       The seed of the sampling and of the game seeds.
+     * @param population The number of candidates per generation.
+     * @param elite      The number of best candidates the next generation is fitted to.
+     * @param games      The number of games played by every candidate.
+     * @param maxPieces  The number of pieces after which an evaluation game stops.
+     * @throws IllegalArgumentException if a count is not positive or the elite exceeds the population.
+     */
+    public HeuristicTuner(ForkJoinPool pool, long seed, int population, int elite, int games, int maxPieces) {
+        if (population <= 0 || elite <= 0 || games <= 0 || maxPieces <= 0) {
+            throw new IllegalArgumentException("Population, elite, games and pieces must be positive");
+        }
+        if (elite > population) {
+            throw new IllegalArgumentException("Elite " + elite + " exceeds the population " + population);
+        }
+        this.pool = pool;
+        this.seed = seed;
+        this.population = population;
+        this.elite = elite;
+        this.games = games;
+        this.maxPieces = maxPieces;
+        mean = normalize(Heuristic.DEFAULT.getWeights());
+        sigma = new double[Heuristic.FEATURE_COUNT];
+        Arrays.fill(sigma, INITIAL_SIGMA);
+        best = mean.clone();
+    }
+
+    /**
+     * Gets the number of generations evaluated so far.
+     * @return The generation count.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the current mean of the search distribution, the tuner's estimate of the best weights.
+     * @return The mean weights as a heuristic.
+     */
+    public Heuristic getMean() {
+        return new Heuristic(mean);
+    }
+
+    /**
+     * Gets the best candidate of the last generation.
+     * @return The candidate as a heuristic; the starting weights before the first generation.
+     */
+    public Heuristic getBest() {
+        return new Heuristic(best);
+    }
+
+    /**
+     * Gets the fitness of the best candidate of the last generation.
+     * @return The average lines cleared per game; 0 before the first generation.
+     */
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Samples, evaluates and selects one generation, then refits the search distribution.
+     */
+    public void step() {
+        SplittableRandom random = new SplittableRandom(seed ^ 0x9E3779B97F4A7C15L * (generation + 1));
+        long gameSeed = random.nextLong();
+        double[][] candidates = new double[population][];
+        Heuristic[] heuristics = new Heuristic[population];
+        for (int i = 0; i < population; i++) {
+            double[] weights = new double[Heuristic.FEATURE_COUNT];
+            for (int f = 0; f < weights.length; f++) {
+                weights[f] = mean[f] + sigma[f] * random.nextGaussian();
+            }
+            candidates[i] = normalize(weights);
+            heuristics[i] = new Heuristic(candidates[i]);
+        }
+
+        int[] lines = new int[population * games];
+        pool.invoke(new EvaluationTask(0, lines.length, heuristics, gameSeed, lines));
+        double[] fitness = new double[population];
+        for (int i = 0; i < lines.length; i++) {
+            fitness[i / games] += lines[i];
+        }
+        Integer[] order = new Integer[population];
+        for (int i = 0; i < population; i++) {
+            fitness[i] /= games;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        double[] nextMean = new double[Heuristic.FEATURE_COUNT];
+        for (int i = 0; i < elite; i++) {
+            for (int f = 0; f < nextMean.length; f++) {
+                nextMean[f] += candidates[order[i]][f] / elite;
+            }
+        }
+        for (int f = 0; f < nextMean.length; f++) {
+            double variance = 0;
+            for (int i = 0; i < elite; i++) {
+                double d = candidates[order[i]][f] - nextMean[f];
+                variance += d * d / elite;
+            }
+            sigma[f] = Math.max(MIN_SIGMA, SMOOTHING * sigma[f] + (1 - SMOOTHING) * Math.sqrt(variance));
+        }
+        mean = normalize(nextMean);
+        best = candidates[order[0]];
+        bestFitness = fitness[order[0]];
+        generation++;
+    }
+
+    private static double[] normalize(double[] weights) {
+        double length = 0;
+        for (double w : weights) {
+            length += w * w;
+        }
+        length = Math.sqrt(length);
+        if (length == 0) {
+            return weights;
+        }
+        for (int f = 0; f < weights.length; f++) {
+            weights[f] /= length;
+        }
+        return weights;
+    }
+
+    /**
+     * Plays a range of (candidate, game) pairs, splitting it in halves down to single games.
+     */
+    @SuppressWarnings("serial")
+    private final class EvaluationTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Heuristic[] heuristics;
+        private final long gameSeed;
+        private final int[] lines;
+
+        private EvaluationTask(int from, int to, Heuristic[] heuristics, long gameSeed, int[] lines) {
+            this.from = from;
+            this.to = to;
+            this.heuristics = heuristics;
+            this.gameSeed = gameSeed;
+            this.lines = lines;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                lines[from] = trainingGames.get().play(heuristics[from / games], gameSeed + from % games, maxPieces);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new EvaluationTask(from, middle, heuristics, gameSeed, lines),
+                        new EvaluationTask(middle, to, heuristics, gameSeed, lines));
+            }
+        }
+    }
+
+    /**
+     * Writes the tuner state. The file is written next to the target and moved over it, so an
+     * interrupted save leaves the previous checkpoint intact.
+     *
+     * @param file The checkpoint file.
+     * @throws IOException if the file cannot be written.
+     */
+    public void saveCheckpoint(Path file) throws IOException {
+        Properties state = new Properties();
+        state.setProperty("seed", Long.toString(seed));
+        state.setProperty("generation", Integer.toString(generation));
+        state.setProperty("mean", join(mean));
+        state.setProperty("sigma", join(sigma));
+        state.setProperty("best", join(best));
+        state.setProperty("bestFitness", Double.toString(bestFitness));
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp)) {
+            state.store(out, "HeuristicTuner checkpoint");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Continues from a saved state.
+     *
+     * @param file The checkpoint file.
+     * @throws IOException              if the file cannot be read.
+     * @throws IllegalArgumentException if the checkpoint was written with another seed or feature count.
+     */
+    public void loadCheckpoint(Path file) throws IOException {
+        Properties state = new Properties();
+        try (Reader in = Files.newBufferedReader(file)) {
+            state.load(in);
+        }
+        if (Long.parseLong(state.getProperty("seed")) != seed) {
+            throw new IllegalArgumentException("Checkpoint was written with seed " + state.getProperty("seed"));
+        }
+        double[] loadedMean = split(state.getProperty("mean"));
+        double[] loadedSigma = split(state.getProperty("sigma"));
+        double[] loadedBest = split(state.getProperty("best"));
+        if (loadedMean.length != Heuristic.FEATURE_COUNT || loadedSigma.length != Heuristic.FEATURE_COUNT
+                || loadedBest.length != Heuristic.FEATURE_COUNT) {
+            throw new IllegalArgumentException("Checkpoint does not have " + Heuristic.FEATURE_COUNT + " features");
+        }
+        generation = Integer.parseInt(state.getProperty("generation"));
+        mean = loadedMean;
+        sigma = loadedSigma;
+        best = loadedBest;
+        bestFitness = Double.parseDouble(state.getProperty("bestFitness"));
+    }
+
+    private static String join(double[] values) {
+        StringBuilder text = new StringBuilder();
+        for (double value : values) {
+            if (text.length() > 0) {
+                text.append(',');
+            }
+            // Full precision, so a resumed run samples exactly the same candidates
+            text.append(value);
+        }
+        return text.toString();
+    }
+
+    private static double[] split(String text) {
+        String[] parts = text.split(",");
+        double[] values = new double[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            values[i] = Double.parseDouble(parts[i]);
+        }
+        return values;
+    }
+
+    private static String format(double[] weights) {
+        StringBuilder text = new StringBuilder();
+        for (double w : weights) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(String.format(Locale.ROOT, "%.6f", w));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Entry point of the tuner.
+     *
+     * @param args Command line options, see the class documentation.
+     * @throws IOException if the checkpoint cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = 20;
+        int population = 32;
+        int elite = 8;
+        int games = 8;
+        int maxPieces = 500;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        Path checkpoint = null;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--generations=")) {
+                generations = Integer.parseInt(value);
+            } else if (arg.startsWith("--population=")) {
+                population = Integer.parseInt(value);
+            } else if (arg.startsWith("--elite=")) {
+                elite = Integer.parseInt(value);
+            } else if (arg.startsWith("--games=")) {
+                games = Integer.parseInt(value);
+            } else if (arg.startsWith("--max-pieces=")) {
+                maxPieces = Integer.parseInt(value);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--checkpoint=")) {
+                checkpoint = Paths.get(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            HeuristicTuner tuner = new HeuristicTuner(pool, seed, population, elite, games, maxPieces);
+            if (checkpoint != null && Files.exists(checkpoint)) {
+                tuner.loadCheckpoint(checkpoint);
+                System.out.println("# resumed " + checkpoint + " at generation " + tuner.getGeneration());
+            }
+            while (tuner.getGeneration() < generations) {
+                long start = System.nanoTime();
+                tuner.step();
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.printf(Locale.ROOT, "generation %d: best %.1f lines, %.2f s, mean [%s]%n",
+                        tuner.getGeneration(), tuner.getBestFitness(), seconds, format(tuner.mean));
+                if (checkpoint != null) {
+                    tuner.saveCheckpoint(checkpoint);
+                }
+            }
+            System.out.println("best [" + format(tuner.best) + "]");
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
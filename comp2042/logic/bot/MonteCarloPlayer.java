@@ -0,0 +1,333 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.DownData;
+import com.comp2042.EventType;
+import com.comp2042.InputEventListener;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.Bricks;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Computer player that chooses placements by Monte Carlo tree search (UCT).
+ * The tree covers the first two pieces: the root's children are the placements of the current brick,
+ * their children the placements of the previewed next brick. Every playout walks down the tree,
+ * picking untried placements in the order of their one-ply {@link Heuristic} score and tried ones by
+ * the UCB1 bound, then continues from the leaf with the rest of the preview queue and a few pieces of
+ * a seeded 7-bag sequence, played greedily by a {@link TrainingGame}, and backs the heuristic value of
+ * where it ends up along the path. Deeper preview pieces stay out of the tree: every level multiplies
+ * its width by the number of placements, and the search budget is better spent on more playouts.
+ * A placement after which a brick cannot spawn is worth {@link #LOSS_VALUE}.
+ *
+ * <p>Playouts run concurrently on a {@link ForkJoinPool}, one search loop per pool thread; they are
+ * CPU bound, so virtual threads would gain nothing over the pool's platform threads. The loops share
+ * the tree: visits are {@link AtomicInteger}s and values {@link DoubleAdder}s, so the hot path takes
+ * no lock; only expanding a node does. A thread entering a node counts a provisional loss there
+ * (virtual loss) until its playout returns, which steers concurrent playouts apart. The search is
+ * anytime: it runs until the time budget of the move is used up, but tries every placement of the
+ * current brick at least once, and then plays the most visited one.</p>
+ */
+public final class MonteCarloPlayer {
+
+    /** Time budget per move used by the short constructor. */
+    public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+    /** Number of known pieces the tree branches on: the current brick and the next one. */
+    public static final int TREE_PIECES = 2;
+
+    /** Number of pieces played greedily after the known pieces in a playout. */
+    public static final int PLAYOUT_PIECES = 3;
+
+    /** Value of a playout that tops out, far below any heuristic value of a playable well. */
+    public static final double LOSS_VALUE = -1000;
+
+    // Weight of the UCB1 exploration term, in heuristic units
+    private static final double EXPLORATION = 2.0;
+
+    private final InputEventListener eventListener;
+    private final Heuristic heuristic;
+    private final ForkJoinPool pool;
+    private final long budgetNanos;
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] well;
+    private final PlacementEnumerator enumerator;
+    private final ThreadLocal<Worker> workers;
+    private final AtomicLong playoutSeeds;
+
+    /**
+     * Creates a player with the default heuristic and time budget on the common pool.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     */
+    public MonteCarloPlayer(InputEventListener eventListener, int rows, int columns) {
+        this(eventListener, rows, columns, Heuristic.DEFAULT, ForkJoinPool.commonPool(), DEFAULT_BUDGET_MILLIS, 0);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param eventListener The engine to drive.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     * @param heuristic     The evaluation of playout wells, also choosing the playout placements.
+     * @param pool          The pool running the playouts.
+     * @param budgetMillis  The time budget per move in milliseconds.
+     * @param seed          The seed of the playout brick sequences.
+     */
+    public MonteCarloPlayer(InputEventListener eventListener, int rows, int columns, Heuristic heuristic,
+                            ForkJoinPool pool, long budgetMillis, long seed) {
+        this.eventListener = eventListener;
+        this.heuristic = heuristic;
+        this.pool = pool;
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = BitMatrixOperations.fullRowMask(columns);
+        this.well = new int[rows];
+        this.enumerator = new PlacementEnumerator(rows, columns);
+        this.workers = ThreadLocal.withInitial(() -> new Worker(rows, columns));
+        this.playoutSeeds = new AtomicLong(seed);
+    }
+
+    /**
+     * Plays the current piece: searches a placement, executes the moves leading there and hard drops
+     * the brick.
+     *
+     * @return The result of the lock, including cleared rows and the next view.
+     */
+    public DownData playPiece() {
+        return AutoPlayer.playPath(eventListener, plan());
+    }
+
+    /**
+     * Chooses a placement for the current piece.
+     *
+     * @return The moves leading from the current position to the chosen placement, without the final
+     *         locking down move; empty if the piece cannot move.
+     */
+    public List<EventType> plan() {
+        long deadline = System.nanoTime() + budgetNanos;
+        ViewData view = eventListener.getViewData();
+        BrickShape shape = view.getBrickShape();
+        AutoPlayer.readWell(view, well);
+        Brick[] pieces = new Brick[1 + view.getPreviewCount()];
+        pieces[0] = Bricks.forId(shape.getColor());
+        for (int i = 1; i < pieces.length; i++) {
+            pieces[i] = Bricks.forId(view.getPreviewShape(i - 1).getColor());
+        }
+        int count = enumerator.enumerate(well, pieces[0], shape.getRotation(), view.getxPosition(),
+                view.getyPosition());
+        if (count == 0) {
+            return List.of();
+        }
+        Node root = new Node(well.clone(), 0, 0, 0);
+        root.children = expand(root, enumerator);
+        pool.invoke(new SearchTask(0, pool.getParallelism(), root, pieces, deadline));
+
+        Node best = root.children[0];
+        for (Node child : root.children) {
+            int visits = child.visits.get();
+            if (visits > best.visits.get() || visits == best.visits.get() && child.mean() > best.mean()) {
+                best = child;
+            }
+        }
+        return enumerator.getPath(best.placement);
+    }
+
+    /**
+     * A well reached by placing the known pieces, with the statistics of the playouts through it.
+     */
+    private static final class Node {
+        private final int[] well;
+        private final int lines;
+        private final int placement;
+        private final double prior;
+        private final AtomicInteger visits = new AtomicInteger();
+        private final DoubleAdder value = new DoubleAdder();
+        // Placements of the next known piece; null until expanded, empty if the piece cannot spawn
+        private volatile Node[] children;
+
+        private Node(int[] well, int lines, int placement, double prior) {
+            this.well = well;
+            this.lines = lines;
+            this.placement = placement;
+            this.prior = prior;
+        }
+
+        private double mean() {
+            int n = visits.get();
+            return n == 0 ? Double.NEGATIVE_INFINITY : value.sum() / n;
+        }
+    }
+
+    /**
+     * Creates the children of a node from the placements an enumerator just found in its well.
+     *
+     * @param node       The node.
+     * @param placements The enumerator holding the placements.
+     * @return One child per placement, in enumeration order.
+     */
+    private Node[] expand(Node node, PlacementEnumerator placements) {
+        Worker worker = workers.get();
+        Node[] children = new Node[placements.getCount()];
+        for (int i = 0; i < children.length; i++) {
+            int[] next = node.well.clone();
+            BitMatrixOperations.merge(next, placements.getShape(i), placements.getX(i), placements.getY(i));
+            int cleared = BitMatrixOperations.removeFullRows(next, fullRowMask);
+            double prior = heuristic.evaluate(next, columns, node.lines + cleared, worker.heights);
+            children[i] = new Node(next, node.lines + cleared, i, prior);
+        }
+        return children;
+    }
+
+    /**
+     * Picks the child to descend into: the untried child with the best prior, or else the child with
+     * the highest UCB1 bound. The visit is counted right away, with a provisional loss as its value.
+     *
+     * @param parent   The node to descend from.
+     * @param children The parent's children, at least one.
+     * @return The child.
+     */
+    private static Node select(Node parent, Node[] children) {
+        Node best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        boolean untried = false;
+        double logVisits = Math.log(Math.max(1, parent.visits.get()));
+        for (Node child : children) {
+            int visits = child.visits.get();
+            if (visits == 0) {
+                if (!untried || child.prior > bestScore) {
+                    best = child;
+                    bestScore = child.prior;
+                    untried = true;
+                }
+            } else if (!untried) {
+                double score = child.value.sum() / visits + EXPLORATION * Math.sqrt(logVisits / visits);
+                if (best == null || score > bestScore) {
+                    best = child;
+                    bestScore = score;
+                }
+            }
+        }
+        best.visits.incrementAndGet();
+        best.value.add(LOSS_VALUE);
+        return best;
+    }
+
+    /**
+     * Runs one playout: descends through the tree, continues with the remaining known pieces and random
+     * pieces and backs up the result.
+     *
+     * @param root   The root of the tree.
+     * @param pieces The known pieces, the current one first; the tree covers the first
+     *               {@link #TREE_PIECES}.
+     * @param worker The calling thread's buffers.
+     */
+    private void playout(Node root, Brick[] pieces, Worker worker) {
+        Node[] path = worker.path;
+        root.visits.incrementAndGet();
+        root.value.add(LOSS_VALUE);
+        path[0] = root;
+        Node node = root;
+        int depth = 0;
+        int treePieces = Math.min(TREE_PIECES, pieces.length);
+        boolean lost = false;
+        while (depth < treePieces) {
+            Node[] children = node.children;
+            if (children == null) {
+                synchronized (node) {
+                    children = node.children;
+                    if (children == null) {
+                        worker.enumerator.enumerate(node.well, pieces[depth]);
+                        children = expand(node, worker.enumerator);
+                        node.children = children;
+                    }
+                }
+            }
+            if (children.length == 0) {
+                lost = true;
+                break;
+            }
+            node = select(node, children);
+            path[++depth] = node;
+        }
+
+        double result = lost ? LOSS_VALUE : worker.game.rollout(heuristic, node.well, node.lines, pieces,
+                treePieces, playoutSeeds.getAndIncrement(), PLAYOUT_PIECES);
+        if (result == Double.NEGATIVE_INFINITY) {
+            result = LOSS_VALUE;
+        }
+        for (int i = 0; i <= depth; i++) {
+            // Replace the provisional loss with the real result
+            path[i].value.add(result - LOSS_VALUE);
+            path[i] = null;
+        }
+    }
+
+    /**
+     * Per-thread search buffers, so parallel playouts never share mutable state. Static, so the pool
+     * threads' thread-local maps never keep the player reachable.
+     */
+    private static final class Worker {
+        private final int[] heights;
+        private final PlacementEnumerator enumerator;
+        private final TrainingGame game;
+        // The root plus one node per tree level; cleared after every playout so no tree outlives its search
+        private final Node[] path = new Node[TREE_PIECES + 1];
+
+        private Worker(int rows, int columns) {
+            heights = new int[columns];
+            enumerator = new PlacementEnumerator(rows, columns);
+            game = new TrainingGame(rows, columns);
+        }
+    }
+
+    /**
+     * Splits the pool's threads into search loops; each loop runs playouts until the deadline has
+     * passed and every root child has been tried.
+     */
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final Node root;
+        private final Brick[] pieces;
+        private final long deadline;
+
+        private SearchTask(int from, int to, Node root, Brick[] pieces, long deadline) {
+            this.from = from;
+            this.to = to;
+            this.root = root;
+            this.pieces = pieces;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SearchTask(from, middle, root, pieces, deadline),
+                        new SearchTask(middle, to, root, pieces, deadline));
+                return;
+            }
+            Worker worker = workers.get();
+            int minimum = root.children.length;
+            while (System.nanoTime() - deadline < 0 || root.visits.get() < minimum) {
+                playout(root, pieces, worker);
+            }
+        }
+    }
+}
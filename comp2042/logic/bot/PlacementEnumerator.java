@@ -0,0 +1,250 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.Board;
+import com.comp2042.EventType;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds every position in which a brick can lock, starting from its spawn position.
+ * The search is a breadth-first walk over (rotation, x, y) states using the moves the game
+ * offers (left, right, down and rotate), so slides and tucks under overhangs are found as long
+ * as the brick can actually get there. A state locks when it cannot move down. Down moves in the
+ * empty space above the stack jump straight to the first row where the brick's 4x4 box touches
+ * the stack, since nothing can lock or get blocked on the way.
+ *
+ * <p>Rotations that occupy the same cells (e.g. the two vertical states of a symmetric brick)
+ * are folded onto their canonical rotation, so each distinct set of locked cells is reported
+ * once. All working storage is allocated up front and reused through generation stamps, so a
+ * call allocates nothing. An instance is not thread-safe; give every search thread its own.</p>
+ */
+public final class PlacementEnumerator {
+
+    // Shapes are 4x4, so a valid top-left corner is at most 3 cells left of or above the well
+    private static final int MARGIN = 3;
+    private static final int MAX_ROTATIONS = 4;
+
+    private static final EventType[] MOVES = EventType.values();
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int stride;
+    private final int plane;
+
+    // Per state: the generation it was last seen in, its predecessor and the move leading to it
+    private final int[] visited;
+    private final int[] locked;
+    private final int[] parent;
+    private final byte[] move;
+    private final int[] queue;
+    private final int[] placements;
+
+    private int stamp;
+    private int count;
+    private Brick brick;
+
+    /**
+     * Creates an enumerator for wells of the given size.
+     *
+     * @param rows    The number of well rows.
+     * @param columns The number of well columns (at most {@link BitMatrixOperations#MAX_COLUMNS}).
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = BitMatrixOperations.fullRowMask(columns);
+        this.stride = columns + MARGIN;
+        this.plane = stride * (rows + MARGIN);
+        int states = plane * MAX_ROTATIONS;
+        visited = new int[states];
+        locked = new int[states];
+        parent = new int[states];
+        move = new byte[states];
+        queue = new int[states];
+        placements = new int[states];
+    }
+
+    /**
+     * Enumerates the lock positions of a brick entering at the spawn position in rotation 0.
+     *
+     * @param well  The occupied cells, one bitmask per row (see {@link BitMatrixOperations#toRowMasks}).
+     * @param brick The brick to place.
+     * @return The number of distinct placements found; 0 if the spawn position is blocked.
+     */
+    public int enumerate(int[] well, Brick brick) {
+        return enumerate(well, brick, 0, Board.SPAWN_X, Board.SPAWN_Y);
+    }
+
+    /**
+     * Enumerates the lock positions of a brick from an arbitrary start state.
+     *
+     * @param well     The occupied cells, one bitmask per row.
+     * @param brick    The brick to place.
+     * @param rotation The start rotation.
+     * @param x        The start column.
+     * @param y        The start row.
+     * @return The number of distinct placements found; 0 if the start state is blocked.
+     */
+    public int enumerate(int[] well, Brick brick, int rotation, int x, int y) {
+        this.brick = brick;
+        count = 0;
+        if (++stamp == 0) {
+            Arrays.fill(visited, 0);
+            Arrays.fill(locked, 0);
+            stamp = 1;
+        }
+        if (BitMatrixOperations.intersect(well, fullRowMask, brick.getShape(rotation), x, y)) {
+            return 0;
+        }
+
+        int top = 0;
+        while (top < rows && well[top] == 0) {
+            top++;
+        }
+        int surface = top - MARGIN - 1;
+
+        int rotations = brick.getRotationCount();
+        int start = index(rotation, x, y);
+        visited[start] = stamp;
+        parent[start] = -1;
+        queue[0] = start;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int state = queue[head++];
+            int r = state / plane;
+            int rest = state - r * plane;
+            int sy = rest / stride - MARGIN;
+            int sx = rest % stride - MARGIN;
+            BrickShape shape = brick.getShape(r);
+
+            int below = Math.max(sy + 1, surface);
+            if (BitMatrixOperations.intersect(well, fullRowMask, shape, sx, below)) {
+                int key = index(shape.getCanonicalRotation(),
+                        sx + shape.getCanonicalOffsetX(), sy + shape.getCanonicalOffsetY());
+                if (locked[key] != stamp) {
+                    locked[key] = stamp;
+                    placements[count++] = state;
+                }
+            } else {
+                tail = visit(well, shape, r, sx, below, state, EventType.DOWN, tail);
+            }
+            tail = visit(well, shape, r, sx - 1, sy, state, EventType.LEFT, tail);
+            tail = visit(well, shape, r, sx + 1, sy, state, EventType.RIGHT, tail);
+            int next = (r + 1) % rotations;
+            tail = visit(well, brick.getShape(next), next, sx, sy, state, EventType.ROTATE, tail);
+        }
+        return count;
+    }
+
+    /**
+     * Queues a successor state if it is inside the search window, unseen and free.
+     *
+     * @return The new queue tail.
+     */
+    private int visit(int[] well, BrickShape shape, int rotation, int x, int y, int from, EventType via, int tail) {
+        if (x < -MARGIN || x >= columns || y >= rows) {
+            return tail;
+        }
+        int state = index(rotation, x, y);
+        if (visited[state] == stamp) {
+            return tail;
+        }
+        visited[state] = stamp;
+        if (BitMatrixOperations.intersect(well, fullRowMask, shape, x, y)) {
+            // Left marked, so a blocked state is tested only once per search
+            return tail;
+        }
+        parent[state] = from;
+        move[state] = (byte) via.ordinal();
+        queue[tail] = state;
+        return tail + 1;
+    }
+
+    private int index(int rotation, int x, int y) {
+        return rotation * plane + (y + MARGIN) * stride + x + MARGIN;
+    }
+
+    /**
+     * Gets the largest number of placements a search can report, for sizing buffers up front.
+     * @return The placement capacity.
+     */
+    int getCapacity() {
+        return placements.length;
+    }
+
+    /**
+     * Gets the number of placements found by the last search.
+     * @return The placement count.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the rotation of a placement, as first reached by the search.
+     * @param placement The placement index, from 0 to {@link #getCount()} - 1.
+     * @return The rotation index.
+     */
+    public int getRotation(int placement) {
+        return placements[placement] / plane;
+    }
+
+    /**
+     * Gets the column of a placement's top-left corner.
+     * @param placement The placement index.
+     * @return The x-coordinate.
+     */
+    public int getX(int placement) {
+        return placements[placement] % stride - MARGIN;
+    }
+
+    /**
+     * Gets the row of a placement's top-left corner.
+     * @param placement The placement index.
+     * @return The y-coordinate.
+     */
+    public int getY(int placement) {
+        return rowOf(placements[placement]);
+    }
+
+    private int rowOf(int state) {
+        return state % plane / stride - MARGIN;
+    }
+
+    /**
+     * Gets the shape of a placement.
+     * @param placement The placement index.
+     * @return The locked shape.
+     */
+    public BrickShape getShape(int placement) {
+        return brick.getShape(getRotation(placement));
+    }
+
+    /**
+     * Rebuilds a move sequence from the start state to a placement.
+     * The final down move that locks the brick is not included.
+     *
+     * @param placement The placement index.
+     * @return The moves in execution order.
+     */
+    public List<EventType> getPath(int placement) {
+        List<EventType> path = new ArrayList<>();
+        for (int state = placements[placement]; parent[state] >= 0; state = parent[state]) {
+            // A down move may span several rows when it was taken above the stack
+            int steps = MOVES[move[state]] == EventType.DOWN ? rowOf(state) - rowOf(parent[state]) : 1;
+            for (int i = 0; i < steps; i++) {
+                path.add(MOVES[move[state]]);
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+}
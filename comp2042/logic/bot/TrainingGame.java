@@ -0,0 +1,113 @@
+package com.comp2042.logic.bot;
+
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.util.Arrays;
+
+/**
+ * Stripped-down game for evaluating a {@link Heuristic} many times over: a greedy player places every
+ * brick of a seeded 7-bag sequence where the heuristic scores the resulting well best, without a
+ * board, controller or lookahead. It plays whole training games as well as short search playouts.
+ * The well, the candidate well, the generator and the {@link PlacementEnumerator} are allocated once
+ * and reused, so playing a game or a playout allocates nothing.
+ * An instance is not thread-safe; give every evaluation thread its own.
+ */
+final class TrainingGame {
+
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] well;
+    private final int[] candidate;
+    private final int[] heights;
+    private final PlacementEnumerator enumerator;
+    private final SevenBagBrickGenerator generator = new SevenBagBrickGenerator(0);
+
+    /**
+     * Creates a game on wells of the given size.
+     *
+     * @param rows    The number of rows.
+     * @param columns The number of columns.
+     */
+    TrainingGame(int rows, int columns) {
+        this.columns = columns;
+        this.fullRowMask = BitMatrixOperations.fullRowMask(columns);
+        this.well = new int[rows];
+        this.candidate = new int[rows];
+        this.heights = new int[columns];
+        this.enumerator = new PlacementEnumerator(rows, columns);
+    }
+
+    /**
+     * Plays a game from an empty well until the stack reaches the spawn position or the piece limit.
+     *
+     * @param heuristic The evaluation choosing every placement.
+     * @param seed      The seed of the brick sequence.
+     * @param maxPieces The number of pieces after which the game stops.
+     * @return The number of lines cleared.
+     */
+    int play(Heuristic heuristic, long seed, int maxPieces) {
+        Arrays.fill(well, 0);
+        int lines = run(heuristic, null, 0, seed, maxPieces);
+        return lines < 0 ? -lines - 1 : lines;
+    }
+
+    /**
+     * Continues a game from a given well for a few pieces and scores where it ends up, e.g. as the
+     * playout of a tree search. Bricks already known, such as the rest of the preview queue, are played
+     * first, then bricks of the seeded sequence.
+     *
+     * @param heuristic  The evaluation choosing every placement and scoring the final well.
+     * @param start      The well to start from, one bitmask per row; it is not modified.
+     * @param startLines The lines already cleared on the way to the start well, credited to the score.
+     * @param known      The known bricks; may be null if there are none.
+     * @param from       The index of the first known brick to play.
+     * @param seed       The seed of the brick sequence.
+     * @param pieces     The number of pieces to play after the known ones.
+     * @return The heuristic value of the final well, or negative infinity if the stack topped out.
+     */
+    double rollout(Heuristic heuristic, int[] start, int startLines, Brick[] known, int from, long seed,
+                   int pieces) {
+        System.arraycopy(start, 0, well, 0, well.length);
+        int lines = run(heuristic, known, from, seed, pieces);
+        if (lines < 0) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return heuristic.evaluate(well, columns, startLines + lines, heights);
+    }
+
+    /**
+     * Places the known bricks from an index on, then bricks of a seeded sequence greedily into the
+     * current well.
+     *
+     * @return The number of lines cleared, or {@code -lines - 1} if a brick could not spawn.
+     */
+    private int run(Heuristic heuristic, Brick[] known, int from, long seed, int maxPieces) {
+        generator.setSeed(seed);
+        int first = known == null ? 0 : Math.max(0, known.length - from);
+        int lines = 0;
+        for (int piece = 0; piece < first + maxPieces; piece++) {
+            Brick brick = piece < first ? known[from + piece] : generator.getBrick();
+            int count = enumerator.enumerate(well, brick);
+            if (count == 0) {
+                return -lines - 1;
+            }
+            int best = 0;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                System.arraycopy(well, 0, candidate, 0, well.length);
+                BitMatrixOperations.merge(candidate, enumerator.getShape(i), enumerator.getX(i), enumerator.getY(i));
+                int cleared = BitMatrixOperations.removeFullRows(candidate, fullRowMask);
+                double score = heuristic.evaluate(candidate, columns, cleared, heights);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = i;
+                }
+            }
+            BitMatrixOperations.merge(well, enumerator.getShape(best), enumerator.getX(best), enumerator.getY(best));
+            lines += BitMatrixOperations.removeFullRows(well, fullRowMask);
+        }
+        return lines;
+    }
+}
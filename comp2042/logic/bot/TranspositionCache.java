@@ -0,0 +1,225 @@
+package com.comp2042.logic.bot;
+
+import java.util.Arrays;
+
+/**
+ * Bounded, thread-safe cache of search evaluations keyed by position.
+ * A key combines the {@link com.comp2042.Zobrist} hash of a well with the piece to place and the
+ * previewed pieces, see {@link #key}. The table is split into independently locked stripes so
+ * parallel searches rarely wait for each other. Each stripe is a set-associative table of primitive
+ * arrays: a key can live in one of {@value #WAYS} slots of its bucket, and inserting into a full
+ * bucket evicts the least recently used slot. Nothing is allocated after construction.
+ *
+ * <p>Cached values are only meaningful to searches with the same evaluation and depth; a cache must
+ * not be shared between players with different heuristics.</p>
+ */
+public final class TranspositionCache {
+
+    /** Number of entries of a cache created by the short constructor. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    /** Number of stripes of a cache created by the short constructor. */
+    public static final int DEFAULT_STRIPES = 64;
+
+    private static final int WAYS = 4;
+    // Marks free slots; a real key equal to it is stored as REPLACEMENT_KEY instead
+    private static final long EMPTY = 0;
+    private static final long REPLACEMENT_KEY = 1;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final int bucketMask;
+
+    /**
+     * Creates a cache with the default capacity and stripe count.
+     */
+    public TranspositionCache() {
+        this(DEFAULT_CAPACITY, DEFAULT_STRIPES);
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param capacity The maximum number of entries; rounded up to a power of two.
+     * @param stripes  The number of independently locked stripes; rounded up to a power of two.
+     * @throws IllegalArgumentException if either value is not positive.
+     */
+    public TranspositionCache(int capacity, int stripes) {
+        if (capacity <= 0 || stripes <= 0) {
+            throw new IllegalArgumentException("Capacity and stripes must be positive");
+        }
+        int stripeCount = powerOfTwo(stripes);
+        int buckets = Math.max(1, powerOfTwo(capacity) / stripeCount / WAYS);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(buckets * WAYS);
+        }
+        // Stripes are picked by the high bits of a key and buckets by the low bits
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        this.bucketMask = buckets - 1;
+    }
+
+    private static int powerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    /**
+     * Builds a cache key.
+     *
+     * @param boardHash The Zobrist hash of the well.
+     * @param piece     The id of the piece to place next.
+     * @param preview   The ids of the previewed pieces that the evaluation looked at, packed by the
+     *                  caller (e.g. three bits per piece); 0 if the evaluation used no preview.
+     * @return The key.
+     */
+    public static long key(long boardHash, int piece, long preview) {
+        return boardHash ^ piece * 0x9E3779B97F4A7C15L ^ preview * 0xC2B2AE3D27D4EB4FL;
+    }
+
+    /**
+     * Looks up an evaluation.
+     *
+     * @param key The position key.
+     * @return The cached value, or {@link Double#NaN} if the key is not cached.
+     */
+    public double get(long key) {
+        key = key == EMPTY ? REPLACEMENT_KEY : key;
+        Stripe stripe = stripes[stripeIndex(key)];
+        int base = bucketBase(key);
+        synchronized (stripe) {
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (stripe.keys[slot] == key) {
+                    stripe.stamps[slot] = ++stripe.clock;
+                    stripe.hits++;
+                    return stripe.values[slot];
+                }
+            }
+            stripe.misses++;
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Stores an evaluation, replacing an older value of the same key or evicting the least recently
+     * used entry of the key's bucket.
+     *
+     * @param key   The position key.
+     * @param value The evaluation.
+     */
+    public void put(long key, double value) {
+        key = key == EMPTY ? REPLACEMENT_KEY : key;
+        Stripe stripe = stripes[stripeIndex(key)];
+        int base = bucketBase(key);
+        synchronized (stripe) {
+            int victim = base;
+            for (int slot = base; slot < base + WAYS; slot++) {
+                if (stripe.keys[slot] == key || stripe.keys[slot] == EMPTY) {
+                    victim = slot;
+                    break;
+                }
+                if (stripe.stamps[slot] < stripe.stamps[victim]) {
+                    victim = slot;
+                }
+            }
+            if (stripe.keys[victim] != EMPTY && stripe.keys[victim] != key) {
+                stripe.evictions++;
+            }
+            stripe.keys[victim] = key;
+            stripe.values[victim] = value;
+            stripe.stamps[victim] = ++stripe.clock;
+        }
+    }
+
+    /**
+     * Removes every entry and resets the statistics.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Arrays.fill(stripe.keys, EMPTY);
+                Arrays.fill(stripe.stamps, 0);
+                stripe.clock = 0;
+                stripe.hits = 0;
+                stripe.misses = 0;
+                stripe.evictions = 0;
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return stripes.length * stripes[0].keys.length;
+    }
+
+    /**
+     * Gets the number of lookups that found their key.
+     * @return The hit count.
+     */
+    public long getHits() {
+        long hits = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                hits += stripe.hits;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find their key.
+     * @return The miss count.
+     */
+    public long getMisses() {
+        long misses = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                misses += stripe.misses;
+            }
+        }
+        return misses;
+    }
+
+    /**
+     * Gets the number of entries that were evicted to make room for other keys.
+     * @return The eviction count.
+     */
+    public long getEvictions() {
+        long evictions = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evictions += stripe.evictions;
+            }
+        }
+        return evictions;
+    }
+
+    private int stripeIndex(long key) {
+        return stripeShift == 64 ? 0 : (int) (key >>> stripeShift);
+    }
+
+    private int bucketBase(long key) {
+        return ((int) key & bucketMask) * WAYS;
+    }
+
+    /**
+     * One independently locked part of the table, guarded by its own monitor.
+     */
+    private static final class Stripe {
+        private final long[] keys;
+        private final double[] values;
+        private final long[] stamps;
+        private long clock;
+        private long hits;
+        private long misses;
+        private long evictions;
+
+        private Stripe(int slots) {
+            keys = new long[slots];
+            values = new double[slots];
+            stamps = new long[slots];
+        }
+    }
+}
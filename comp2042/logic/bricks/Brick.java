@@ -1,8 +1,21 @@
 package com.comp2042.logic.bricks;
 
-import java.util.List;
-
+/**
+ * A tetromino type. Implementations expose a shared, precomputed rotation table,
+ * so shapes can be read on every move without copying.
+ */
 public interface Brick {
-    
-    List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the number of distinct rotation states of this brick.
+     * @return The rotation count.
+     */
+    int getRotationCount();
+
+    /**
+     * Gets the immutable shape of a rotation state.
+     * @param rotation The rotation index, from 0 to {@link #getRotationCount()} - 1.
+     * @return The {@link BrickShape} of that rotation.
+     */
+    BrickShape getShape(int rotation);
 }
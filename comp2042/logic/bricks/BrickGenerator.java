@@ -1,8 +1,62 @@
 package com.comp2042.logic.bricks;
 
+/**
+ * Source of the bricks a game is played with.
+ * Generators are deterministic: the same seed always produces the same sequence, which is what
+ * replays, regression benchmarks and bot tournaments rely on.
+ */
 public interface BrickGenerator {
 
+    /**
+     * Takes the next brick out of the sequence.
+     * @return The brick to spawn.
+     */
     Brick getBrick();
 
+    /**
+     * Peeks at the brick that the next {@link #getBrick()} call will return.
+     * @return The upcoming brick.
+     */
     Brick getNextBrick();
+
+    /**
+     * Peeks further into the sequence, e.g. for a preview queue or a search looking several pieces ahead.
+     *
+     * @param ahead How many bricks to look past the next one, from 0 to {@link #getPreviewDepth()} - 1;
+     *              {@code peekBrick(0)} is the {@link #getNextBrick()} brick.
+     * @return The brick that will be returned after {@code ahead} other bricks.
+     * @throws IndexOutOfBoundsException if {@code ahead} is outside the preview.
+     */
+    Brick peekBrick(int ahead);
+
+    /**
+     * Gets the number of upcoming bricks that can be peeked at.
+     * @return The preview depth, at least 1.
+     */
+    int getPreviewDepth();
+
+    /**
+     * Gets the seed the current sequence was started from.
+     * @return The seed.
+     */
+    long getSeed();
+
+    /**
+     * Restarts the sequence from a seed, discarding the current preview.
+     * @param seed The new seed.
+     */
+    void setSeed(long seed);
+
+    /**
+     * Captures the current position in the sequence.
+     * @return An immutable state that {@link #restoreState} accepts.
+     */
+    GeneratorState saveState();
+
+    /**
+     * Continues the sequence from a saved position.
+     * @param state A state saved by a generator of the same type and preview depth.
+     * @throws IllegalArgumentException if the state does not fit this generator.
+     */
+    void restoreState(GeneratorState state);
 }
@@ -0,0 +1,282 @@
+package com.comp2042.logic.bricks;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed description of one rotation state of a brick.
+ * Besides the 4x4 shape matrix it stores the occupied cell offsets, the bounding box,
+ * one bitmask per shape row and the lowest cell of every shape column, so collision checks,
+ * drops and rendering can read the shape directly without defensive copies. Instances are
+ * built once per brick type at class load and shared by every board.
+ */
+public final class BrickShape {
+
+    private final int[][] matrix;
+    private final int rotation;
+    private final int color;
+    private final int[] cellX;
+    private final int[] cellY;
+    private final int[] rowMasks;
+    private final int[] columnBottoms;
+    private final int minX;
+    private final int maxX;
+    private final int minY;
+    private final int maxY;
+
+    // Lowest rotation index with the same cells up to translation, and the offset into it
+    private int canonicalRotation;
+    private int canonicalOffsetX;
+    private int canonicalOffsetY;
+
+    /**
+     * Precomputes the lookup data of a single rotation state.
+     *
+     * @param matrix   The shape matrix; it is copied and never handed out.
+     * @param rotation The index of this rotation state within its brick's table.
+     */
+    private BrickShape(int[][] matrix, int rotation) {
+        this.matrix = new int[matrix.length][];
+        this.rotation = rotation;
+        this.rowMasks = new int[matrix.length];
+        this.columnBottoms = new int[matrix[0].length];
+        Arrays.fill(columnBottoms, -1);
+
+        int cells = 0;
+        for (int[] row : matrix) {
+            for (int value : row) {
+                if (value != 0) {
+                    cells++;
+                }
+            }
+        }
+        cellX = new int[cells];
+        cellY = new int[cells];
+
+        int index = 0;
+        int value = 0;
+        int left = Integer.MAX_VALUE;
+        int right = Integer.MIN_VALUE;
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        for (int row = 0; row < matrix.length; row++) {
+            this.matrix[row] = matrix[row].clone();
+            for (int col = 0; col < matrix[row].length; col++) {
+                if (matrix[row][col] != 0) {
+                    value = matrix[row][col];
+                    cellX[index] = col;
+                    cellY[index] = row;
+                    index++;
+                    rowMasks[row] |= 1 << col;
+                    columnBottoms[col] = row;
+                    left = Math.min(left, col);
+                    right = Math.max(right, col);
+                    top = Math.min(top, row);
+                    bottom = Math.max(bottom, row);
+                }
+            }
+        }
+        color = value;
+        minX = left;
+        maxX = right;
+        minY = top;
+        maxY = bottom;
+    }
+
+    /**
+     * Builds the rotation table of a brick type.
+     *
+     * @param rotations The shape matrices, one per rotation state, in rotation order.
+     * @return The immutable rotation table.
+     */
+    static BrickShape[] table(int[][]... rotations) {
+        BrickShape[] table = new BrickShape[rotations.length];
+        for (int i = 0; i < rotations.length; i++) {
+            table[i] = new BrickShape(rotations[i], i);
+        }
+        for (BrickShape shape : table) {
+            for (BrickShape other : table) {
+                if (shape.sameCellsAs(other)) {
+                    shape.canonicalRotation = other.rotation;
+                    shape.canonicalOffsetX = shape.minX - other.minX;
+                    shape.canonicalOffsetY = shape.minY - other.minY;
+                    break;
+                }
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Checks whether two shapes occupy the same cells up to a translation.
+     *
+     * @param other The shape to compare with.
+     * @return true if one shape is a shifted copy of the other.
+     */
+    private boolean sameCellsAs(BrickShape other) {
+        if (cellX.length != other.cellX.length) {
+            return false;
+        }
+        for (int i = 0; i < cellX.length; i++) {
+            if (cellX[i] - minX != other.cellX[i] - other.minX || cellY[i] - minY != other.cellY[i] - other.minY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the index of this rotation state.
+     * @return The rotation index.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Gets the brick id used as cell value and color key.
+     * @return The brick id.
+     */
+    public int getColor() {
+        return color;
+    }
+
+    /**
+     * Gets the number of occupied cells.
+     * @return The cell count.
+     */
+    public int getCellCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Gets the column offset of an occupied cell, relative to the shape's top-left corner.
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The column offset.
+     */
+    public int getCellX(int index) {
+        return cellX[index];
+    }
+
+    /**
+     * Gets the row offset of an occupied cell, relative to the shape's top-left corner.
+     * @param index The cell index, from 0 to {@link #getCellCount()} - 1.
+     * @return The row offset.
+     */
+    public int getCellY(int index) {
+        return cellY[index];
+    }
+
+    /**
+     * Gets the number of rows of the shape matrix.
+     * @return The row count.
+     */
+    public int getRowCount() {
+        return matrix.length;
+    }
+
+    /**
+     * Gets the number of columns of the shape matrix.
+     * @return The column count.
+     */
+    public int getColumnCount() {
+        return matrix[0].length;
+    }
+
+    /**
+     * Gets the occupancy mask of a shape row, bit {@code c} set when column {@code c} is filled.
+     * @param row The shape row.
+     * @return The row mask.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the bottom profile of the shape: the row offset of the lowest occupied cell of a shape column.
+     * A dropped shape comes to rest where one of these cells meets a column surface.
+     * @param col The shape column.
+     * @return The row offset, or -1 if the column is empty.
+     */
+    public int getColumnBottom(int col) {
+        return columnBottoms[col];
+    }
+
+    /**
+     * Gets the value of a single cell of the shape matrix.
+     * @param row The shape row.
+     * @param col The shape column.
+     * @return The brick id, or 0 if the cell is empty.
+     */
+    public int getCell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * Gets the leftmost occupied column offset.
+     * @return The minimum x offset.
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Gets the rightmost occupied column offset.
+     * @return The maximum x offset.
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Gets the topmost occupied row offset.
+     * @return The minimum y offset.
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Gets the bottommost occupied row offset.
+     * @return The maximum y offset.
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Gets the lowest rotation index of the same brick whose cells are a translation of this shape's cells.
+     * Placements in equivalent rotations lock into identical cells, so searches key them by this rotation.
+     * @return The canonical rotation index (equal to {@link #getRotation()} for distinct shapes).
+     */
+    public int getCanonicalRotation() {
+        return canonicalRotation;
+    }
+
+    /**
+     * Gets the column shift that maps a position of this shape onto the canonical rotation.
+     * @return The x offset to add to this shape's x-coordinate.
+     */
+    public int getCanonicalOffsetX() {
+        return canonicalOffsetX;
+    }
+
+    /**
+     * Gets the row shift that maps a position of this shape onto the canonical rotation.
+     * @return The y offset to add to this shape's y-coordinate.
+     */
+    public int getCanonicalOffsetY() {
+        return canonicalOffsetY;
+    }
+
+    /**
+     * Creates a mutable copy of the shape matrix, e.g. for handing to the View.
+     * @return A new 2D integer array.
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) {
+            copy[i] = matrix[i].clone();
+        }
+        return copy;
+    }
+}
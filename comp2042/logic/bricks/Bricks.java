@@ -0,0 +1,30 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Shared table of the seven brick types.
+ * Bricks are stateless, so a single instance of each type serves every board, generator and search.
+ * A brick's id is the cell value of its shapes ({@link BrickShape#getColor()}), from 1 to {@link #COUNT}.
+ */
+public final class Bricks {
+
+    /** Number of brick types. */
+    public static final int COUNT = 7;
+
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private Bricks() {
+        // We don't want to instantiate this utility class
+    }
+
+    /**
+     * Gets the brick with the given id.
+     *
+     * @param id The brick id, from 1 to {@link #COUNT}.
+     * @return The shared brick instance.
+     */
+    public static Brick forId(int id) {
+        return BRICKS[id - 1];
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Immutable copy of a generator's position in its sequence: the random state, the preview and any
+ * generator-specific state such as the current bag. Restoring it continues the exact same sequence.
+ */
+public final class GeneratorState {
+
+    private final long seed;
+    private final long randomState;
+    private final byte[] preview;
+    private final byte[] sequenceState;
+
+    /**
+     * Constructs a state.
+     *
+     * @param seed          The seed of the sequence.
+     * @param randomState   The state of the random source.
+     * @param preview       The upcoming brick ids, next brick first; not copied.
+     * @param sequenceState Generator-specific state; not copied.
+     */
+    GeneratorState(long seed, long randomState, byte[] preview, byte[] sequenceState) {
+        this.seed = seed;
+        this.randomState = randomState;
+        this.preview = preview;
+        this.sequenceState = sequenceState;
+    }
+
+    /**
+     * Gets the seed the saved sequence was started from.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    long getRandomState() {
+        return randomState;
+    }
+
+    byte[] getPreview() {
+        return preview;
+    }
+
+    byte[] getSequenceState() {
+        return sequenceState;
+    }
+}
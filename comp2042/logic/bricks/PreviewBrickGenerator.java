@@ -0,0 +1,156 @@
+package com.comp2042.logic.bricks;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Base class of the seeded generators, keeping the upcoming bricks in a fixed ring of brick ids.
+ * Taking a brick reads one slot and refills it in place, so {@link #getBrick()} never allocates.
+ * Subclasses only decide which brick id comes next.
+ */
+public abstract class PreviewBrickGenerator implements BrickGenerator {
+
+    private static final byte[] NO_SEQUENCE_STATE = new byte[0];
+
+    /** Preview depth used when none is given. */
+    public static final int DEFAULT_PREVIEW_DEPTH = 5;
+
+    // The random source; together with the preview and subclass state it determines the rest of the sequence
+    private final SplitMix64 random = new SplitMix64(0);
+
+    private final byte[] preview;
+    private int head;
+    private long seed;
+
+    /**
+     * Creates a generator with a random seed.
+     *
+     * @param previewDepth The number of upcoming bricks kept visible (at least 1).
+     */
+    protected PreviewBrickGenerator(int previewDepth) {
+        this(ThreadLocalRandom.current().nextLong(), previewDepth);
+    }
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed         The seed of the sequence.
+     * @param previewDepth The number of upcoming bricks kept visible (at least 1).
+     * @throws IllegalArgumentException if the depth is less than 1.
+     */
+    protected PreviewBrickGenerator(long seed, int previewDepth) {
+        if (previewDepth < 1) {
+            throw new IllegalArgumentException("Preview depth must be at least 1: " + previewDepth);
+        }
+        preview = new byte[previewDepth];
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the id of the next brick of the sequence.
+     * @return A brick id from 1 to {@link Bricks#COUNT}.
+     */
+    protected abstract int nextId();
+
+    /**
+     * Draws a random number from the generator's seeded source.
+     *
+     * @param bound The exclusive upper bound (a small positive number).
+     * @return A value in {@code [0, bound)}.
+     */
+    protected final int nextRandom(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Resets the subclass state that depends on the seed. Called before the preview is refilled.
+     */
+    protected void resetSequence() {
+    }
+
+    /**
+     * Captures the subclass state that depends on earlier draws, e.g. the remaining bag.
+     * @return A new array; empty if the subclass has no such state.
+     */
+    protected byte[] saveSequence() {
+        return NO_SEQUENCE_STATE;
+    }
+
+    /**
+     * Restores the subclass state captured by {@link #saveSequence()}.
+     * @param state The saved state.
+     */
+    protected void restoreSequence(byte[] state) {
+    }
+
+    /**
+     * Fills the preview from the current seed. Subclass constructors call this once they are initialised.
+     */
+    protected final void fillPreview() {
+        random.setState(seed);
+        resetSequence();
+        head = 0;
+        for (int i = 0; i < preview.length; i++) {
+            preview[i] = (byte) nextId();
+        }
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = Bricks.forId(preview[head]);
+        preview[head] = (byte) nextId();
+        head = head + 1 == preview.length ? 0 : head + 1;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return Bricks.forId(preview[head]);
+    }
+
+    @Override
+    public Brick peekBrick(int ahead) {
+        if (ahead < 0 || ahead >= preview.length) {
+            throw new IndexOutOfBoundsException("Preview depth is " + preview.length + ": " + ahead);
+        }
+        int index = head + ahead;
+        return Bricks.forId(preview[index < preview.length ? index : index - preview.length]);
+    }
+
+    @Override
+    public int getPreviewDepth() {
+        return preview.length;
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        this.seed = seed;
+        fillPreview();
+    }
+
+    @Override
+    public GeneratorState saveState() {
+        byte[] ordered = new byte[preview.length];
+        for (int i = 0; i < preview.length; i++) {
+            ordered[i] = preview[(head + i) % preview.length];
+        }
+        return new GeneratorState(seed, random.getState(), ordered, saveSequence());
+    }
+
+    @Override
+    public void restoreState(GeneratorState state) {
+        if (state.getPreview().length != preview.length) {
+            throw new IllegalArgumentException("Saved preview depth " + state.getPreview().length
+                    + " does not match " + preview.length);
+        }
+        seed = state.getSeed();
+        random.setState(state.getRandomState());
+        System.arraycopy(state.getPreview(), 0, preview, 0, preview.length);
+        head = 0;
+        restoreSequence(state.getSequenceState());
+    }
+}
@@ -1,40 +1,40 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
-import java.util.List;
-import java.util.concurrent.ThreadLocalRandom;
-
-public class RandomBrickGenerator implements BrickGenerator {
-
-    private final List<Brick> brickList;
-
-    private final Deque<Brick> nextBricks = new ArrayDeque<>();
+/**
+ * Generator that picks every brick independently and uniformly at random.
+ */
+public final class RandomBrickGenerator extends PreviewBrickGenerator {
 
+    /**
+     * Creates a generator with a random seed.
+     */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        super(DEFAULT_PREVIEW_DEPTH);
+        fillPreview();
     }
 
-    @Override
-    public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        }
-        return nextBricks.poll();
+    /**
+     * Creates a generator with a fixed seed.
+     *
+     * @param seed The seed of the sequence.
+     */
+    public RandomBrickGenerator(long seed) {
+        this(seed, DEFAULT_PREVIEW_DEPTH);
+    }
+
+    /**
+     * Creates a generator with a fixed seed and preview depth.
+     *
+     * @param seed         The seed of the sequence.
+     * @param previewDepth The number of upcoming bricks kept visible.
+     */
+    public RandomBrickGenerator(long seed, int previewDepth) {
+        super(seed, previewDepth);
+        fillPreview();
     }
 
     @Override
-    public Brick getNextBrick() {
-        return nextBricks.peek();
+    protected int nextId() {
+        return 1 + nextRandom(Bricks.COUNT);
     }
 }
@@ -0,0 +1,80 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Generator that deals the seven bricks in shuffled bags: every run of seven bricks starting at a bag
+ * boundary contains each brick exactly once. This bounds droughts (at most 12 bricks between two of the
+ * same kind) and makes the sequence fairer than independent draws. The bag is shuffled in place.
+ */
+public final class SevenBagBrickGenerator extends PreviewBrickGenerator {
+
+    private final byte[] bag = new byte[Bricks.COUNT];
+    private int bagIndex;
+
+    /**
+     * Creates a generator with a random seed.
+     */
+    public SevenBagBrickGenerator() {
+        super(DEFAULT_PREVIEW_DEPTH);
+        fillPreview();
+    }
+
+    /**
+     * Creates a generator with a fixed seed.
+     *
+     * @param seed The seed of the sequence.
+     */
+    public SevenBagBrickGenerator(long seed) {
+        this(seed, DEFAULT_PREVIEW_DEPTH);
+    }
+
+    /**
+     * Creates a generator with a fixed seed and preview depth.
+     *
+     * @param seed         The seed of the sequence.
+     * @param previewDepth The number of upcoming bricks kept visible.
+     */
+    public SevenBagBrickGenerator(long seed, int previewDepth) {
+        super(seed, previewDepth);
+        fillPreview();
+    }
+
+    @Override
+    protected void resetSequence() {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = (byte) (i + 1);
+        }
+        bagIndex = bag.length;
+    }
+
+    @Override
+    protected byte[] saveSequence() {
+        byte[] state = new byte[bag.length + 1];
+        System.arraycopy(bag, 0, state, 0, bag.length);
+        state[bag.length] = (byte) bagIndex;
+        return state;
+    }
+
+    @Override
+    protected void restoreSequence(byte[] state) {
+        if (state.length != bag.length + 1) {
+            throw new IllegalArgumentException("Not a 7-bag generator state");
+        }
+        System.arraycopy(state, 0, bag, 0, bag.length);
+        bagIndex = state[bag.length];
+    }
+
+    @Override
+    protected int nextId() {
+        if (bagIndex == bag.length) {
+            // Fisher-Yates shuffle of the (already permuted) bag
+            for (int i = bag.length - 1; i > 0; i--) {
+                int j = nextRandom(i + 1);
+                byte swap = bag[i];
+                bag[i] = bag[j];
+                bag[j] = swap;
+            }
+            bagIndex = 0;
+        }
+        return bag[bagIndex++];
+    }
+}
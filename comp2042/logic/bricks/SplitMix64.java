@@ -0,0 +1,50 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Minimal SplitMix64 pseudo-random generator, the algorithm behind {@link java.util.SplittableRandom}.
+ * Its whole state is one {@code long}, so generators built on it can be saved and restored exactly.
+ */
+final class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Creates a generator.
+     *
+     * @param seed The initial state.
+     */
+    SplitMix64(long seed) {
+        state = seed;
+    }
+
+    /**
+     * Returns the next 64 pseudo-random bits.
+     * @return A uniformly distributed long.
+     */
+    long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns a pseudo-random int in {@code [0, bound)} using a multiply-shift reduction.
+     *
+     * @param bound The exclusive upper bound; must be positive and small for negligible bias.
+     * @return The next value.
+     */
+    int nextInt(int bound) {
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    long getState() {
+        return state;
+    }
+
+    void setState(long state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,291 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Read-only view of a replay archive written by {@link ReplayArchiveWriter}.
+ * The index is loaded into primitive arrays when the archive is opened. Game data is read through
+ * memory-mapped windows, so a game costs no system call once its window is mapped. Windows overlap
+ * by their own size, so every game up to one window long lies inside a single window and is handed
+ * out as a slice of it. The view covers the games present when it was opened and is safe to use from
+ * many threads.
+ *
+ * <p>Windows are {@link MappedByteBuffer}s rather than memory segments because {@link ReplayReader}
+ * and {@link #data(int)} work on {@link ByteBuffer}s, so a segment would only be viewed as a buffer
+ * again. Mapped windows are released by the garbage collector once the archive is no longer
+ * referenced; {@link #close()} only closes the file channel.</p>
+ */
+public final class ReplayArchive implements Closeable {
+
+    // Window stride; each window maps twice this much (or up to the end of the file)
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    /**
+     * Work applied to each game by {@link #parallelScan}.
+     *
+     * @param <T> The result type.
+     */
+    @FunctionalInterface
+    public interface GameVisitor<T> {
+
+        /**
+         * Processes one game.
+         *
+         * @param index  The index of the game in the archive.
+         * @param reader A reader over the game's replay, positioned before its first action.
+         * @return The result for this game.
+         */
+        T visit(int index, ReplayReader reader);
+    }
+
+    private final FileChannel channel;
+    private final long fileSize;
+    private final MappedByteBuffer[] windows;
+
+    private final long[] gameIds;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final int[] scores;
+    private final int[] lines;
+
+    private ReplayArchive(FileChannel channel, long[] gameIds, long[] offsets, int[] lengths, int[] scores,
+                          int[] lines) throws IOException {
+        this.channel = channel;
+        this.fileSize = channel.size();
+        this.windows = new MappedByteBuffer[(int) ((fileSize + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+        this.gameIds = gameIds;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.scores = scores;
+        this.lines = lines;
+    }
+
+    /**
+     * Opens an archive and loads its index.
+     *
+     * @param file The archive file.
+     * @return The archive.
+     * @throws IOException if the file cannot be read or is not an archive.
+     */
+    public static ReplayArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, ReplayArchiveFormat.HEADER_SIZE);
+            if (header.getInt(0) != ReplayArchiveFormat.MAGIC) {
+                throw new IOException(file + ": not a replay archive");
+            }
+            if (header.getInt(4) != ReplayArchiveFormat.VERSION) {
+                throw new IOException(file + ": unsupported archive version " + header.getInt(4));
+            }
+
+            int count = 0;
+            long[] gameIds = new long[ReplayArchiveFormat.BLOCK_CAPACITY];
+            long[] offsets = new long[gameIds.length];
+            int[] lengths = new int[gameIds.length];
+            int[] scores = new int[gameIds.length];
+            int[] lines = new int[gameIds.length];
+            for (long block = header.getLong(ReplayArchiveFormat.FIRST_BLOCK_OFFSET); block != 0; ) {
+                ByteBuffer blockHeader = channel.map(FileChannel.MapMode.READ_ONLY, block,
+                        ReplayArchiveFormat.BLOCK_HEADER_SIZE);
+                int entries = blockHeader.getInt(0);
+                long next = blockHeader.getLong(ReplayArchiveFormat.NEXT_BLOCK_OFFSET);
+                ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, block,
+                        ReplayArchiveFormat.blockSize(entries));
+                if (count + entries > gameIds.length) {
+                    int capacity = Math.max(count + entries, gameIds.length * 2);
+                    gameIds = Arrays.copyOf(gameIds, capacity);
+                    offsets = Arrays.copyOf(offsets, capacity);
+                    lengths = Arrays.copyOf(lengths, capacity);
+                    scores = Arrays.copyOf(scores, capacity);
+                    lines = Arrays.copyOf(lines, capacity);
+                }
+                index.position(ReplayArchiveFormat.BLOCK_HEADER_SIZE);
+                for (int i = 0; i < entries; i++, count++) {
+                    gameIds[count] = index.getLong();
+                    offsets[count] = index.getLong();
+                    lengths[count] = index.getInt();
+                    scores[count] = index.getInt();
+                    lines[count] = index.getInt();
+                }
+                block = next;
+            }
+            return new ReplayArchive(channel, Arrays.copyOf(gameIds, count), Arrays.copyOf(offsets, count),
+                    Arrays.copyOf(lengths, count), Arrays.copyOf(scores, count), Arrays.copyOf(lines, count));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     * @return The game count.
+     */
+    public int size() {
+        return gameIds.length;
+    }
+
+    /**
+     * Gets the caller-assigned ID of a game.
+     * @param index The game index, from 0 to {@link #size()} - 1.
+     * @return The game ID.
+     */
+    public long getGameId(int index) {
+        return gameIds[index];
+    }
+
+    /**
+     * Gets the final score of a game, as stored in the index.
+     * @param index The game index.
+     * @return The score.
+     */
+    public int getScore(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Gets the number of lines cleared in a game, as stored in the index.
+     * @param index The game index.
+     * @return The line count.
+     */
+    public int getLines(int index) {
+        return lines[index];
+    }
+
+    /**
+     * Gets the size of a game's replay.
+     * @param index The game index.
+     * @return The length in bytes.
+     */
+    public int getLength(int index) {
+        return lengths[index];
+    }
+
+    /**
+     * Gets the raw replay bytes of a game without copying them.
+     *
+     * @param index The game index.
+     * @return A read-only buffer over the replay, independent of other callers' buffers.
+     * @throws IOException if the window holding the game cannot be mapped.
+     */
+    public ByteBuffer data(int index) throws IOException {
+        long offset = offsets[index];
+        int length = lengths[index];
+        if (length > WINDOW_SIZE) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+        }
+        int window = (int) (offset / WINDOW_SIZE);
+        return window(window).slice((int) (offset - window * WINDOW_SIZE), length);
+    }
+
+    /**
+     * Opens a reader over a game.
+     *
+     * @param index The game index.
+     * @return A reader positioned before the game's first action.
+     * @throws IOException if the game cannot be mapped or is not a valid replay.
+     */
+    public ReplayReader reader(int index) throws IOException {
+        try {
+            return new ReplayReader(data(index));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Game " + gameIds[index] + ": " + e.getMessage(), e);
+        }
+    }
+
+    private synchronized MappedByteBuffer window(int window) throws IOException {
+        if (windows[window] == null) {
+            long start = window * WINDOW_SIZE;
+            windows[window] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                    Math.min(2 * WINDOW_SIZE, fileSize - start));
+        }
+        return windows[window];
+    }
+
+    /**
+     * Applies a visitor to every game, decoding the games in parallel on a fork/join pool.
+     *
+     * @param pool    The pool running the visits.
+     * @param visitor The work to do per game; called concurrently from several threads.
+     * @param <T>     The result type.
+     * @return The results in archive order.
+     * @throws UncheckedIOException if a game cannot be mapped or decoded.
+     */
+    public <T> List<T> parallelScan(ForkJoinPool pool, GameVisitor<T> visitor) {
+        Object[] results = new Object[size()];
+        if (results.length > 0) {
+            pool.invoke(new ScanTask<>(0, results.length, visitor, results));
+        }
+        @SuppressWarnings("unchecked")
+        List<T> list = (List<T>) Arrays.asList(results);
+        return list;
+    }
+
+    /**
+     * Replays every game in the headless engine, in parallel.
+     *
+     * @param pool The pool running the games.
+     * @return The outcome of every game, in archive order.
+     */
+    public List<ReplayResult> replayAll(ForkJoinPool pool) {
+        return parallelScan(pool, (index, reader) -> ReplayPlayer.playHeadless(reader));
+    }
+
+    /**
+     * Visits a range of games, splitting it in halves down to small batches.
+     */
+    @SuppressWarnings("serial")
+    private final class ScanTask<T> extends RecursiveAction {
+        private static final int BATCH = 8;
+
+        private final int from;
+        private final int to;
+        private final GameVisitor<T> visitor;
+        private final Object[] results;
+
+        private ScanTask(int from, int to, GameVisitor<T> visitor, Object[] results) {
+            this.from = from;
+            this.to = to;
+            this.visitor = visitor;
+            this.results = results;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        results[i] = visitor.visit(i, reader(i));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanTask<>(from, middle, visitor, results),
+                        new ScanTask<>(middle, to, visitor, results));
+            }
+        }
+    }
+
+    /**
+     * Closes the file channel. Buffers handed out earlier stay readable until they are collected.
+     *
+     * @throws IOException if closing failed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.replay;
+
+/**
+ * Layout of a replay archive file.
+ *
+ * <p>The file starts with a {@value #HEADER_SIZE}-byte header (magic, version, index block capacity and
+ * the offset of the first index block). Game records are appended as raw replays (see
+ * {@link ReplayFormat}). Index blocks form a chain: each holds a count, its capacity, the offset of the
+ * next block (0 at the end of the chain) and a fixed number of {@value #ENTRY_SIZE}-byte entries of
+ * game ID, offset, length, final score and lines. A full block is never moved; a new one is appended
+ * and linked, so everything but the link and the entry counts is written exactly once.</p>
+ */
+final class ReplayArchiveFormat {
+
+    /** File magic, "TRA1". */
+    static final int MAGIC = 0x54524131;
+
+    /** Format version written by this code. */
+    static final int VERSION = 1;
+
+    /** Size of the file header. */
+    static final int HEADER_SIZE = 24;
+
+    /** Offset of the first-block pointer within the header. */
+    static final int FIRST_BLOCK_OFFSET = 16;
+
+    /** Size of an index block header: count, capacity, next block. */
+    static final int BLOCK_HEADER_SIZE = 16;
+
+    /** Offset of the next-block pointer within a block header. */
+    static final int NEXT_BLOCK_OFFSET = 8;
+
+    /** Size of one index entry. */
+    static final int ENTRY_SIZE = 28;
+
+    /** Entries per index block in newly created archives. */
+    static final int BLOCK_CAPACITY = 4096;
+
+    private ReplayArchiveFormat() {
+        // We don't want to instantiate this utility class
+    }
+
+    /**
+     * Computes the size of an index block.
+     *
+     * @param capacity The number of entries of the block.
+     * @return The block size in bytes.
+     */
+    static int blockSize(int capacity) {
+        return BLOCK_HEADER_SIZE + capacity * ENTRY_SIZE;
+    }
+}
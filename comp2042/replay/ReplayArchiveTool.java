@@ -0,0 +1,77 @@
+package com.comp2042.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command line access to replay archives.
+ *
+ * <p>Usage: {@code ReplayArchiveTool add <archive> <replay>...} appends replay files, numbering the
+ * games after the ones already archived; {@code ReplayArchiveTool scan <archive> [threads]} replays every
+ * game headless in parallel, checks the results against the index and prints a summary.</p>
+ */
+public final class ReplayArchiveTool {
+
+    private ReplayArchiveTool() {
+    }
+
+    /**
+     * Entry point of the tool.
+     *
+     * @param args The command and its arguments, see the class documentation.
+     * @throws IOException if an archive or replay cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ReplayArchiveTool add <archive> <replay>... | scan <archive> [threads]");
+            System.exit(2);
+        }
+        Path archiveFile = Paths.get(args[1]);
+        switch (args[0]) {
+            case "add" -> {
+                try (ReplayArchiveWriter writer = new ReplayArchiveWriter(archiveFile)) {
+                    for (int i = 2; i < args.length; i++) {
+                        writer.append(writer.size(), Paths.get(args[i]));
+                    }
+                    System.out.println(writer.size() + " games in " + archiveFile);
+                }
+            }
+            case "scan" -> {
+                int threads = args.length > 2 ? Integer.parseInt(args[2])
+                        : Runtime.getRuntime().availableProcessors();
+                ForkJoinPool pool = new ForkJoinPool(threads);
+                try (ReplayArchive archive = ReplayArchive.open(archiveFile)) {
+                    long start = System.nanoTime();
+                    List<ReplayResult> results = archive.replayAll(pool);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+
+                    long pieces = 0;
+                    long lines = 0;
+                    long bestScore = 0;
+                    int mismatches = 0;
+                    for (int i = 0; i < results.size(); i++) {
+                        ReplayResult result = results.get(i);
+                        pieces += result.getPieces();
+                        lines += result.getLines();
+                        bestScore = Math.max(bestScore, result.getScore());
+                        if (result.getScore() != archive.getScore(i) || result.getLines() != archive.getLines(i)) {
+                            mismatches++;
+                        }
+                    }
+                    System.out.printf("%d games, %d pieces, %d lines, best score %d, %d index mismatches%n",
+                            results.size(), pieces, lines, bestScore, mismatches);
+                    System.out.printf("%.2f s on %d threads, %.0f pieces/s%n", seconds, threads, pieces / seconds);
+                } finally {
+                    pool.shutdown();
+                }
+            }
+            default -> {
+                System.err.println("Unknown command: " + args[0]);
+                System.exit(2);
+            }
+        }
+    }
+}
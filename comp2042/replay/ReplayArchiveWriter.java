@@ -0,0 +1,196 @@
+package com.comp2042.replay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends replays to an archive file (see {@link ReplayArchiveFormat}), creating the file if needed.
+ * Each game is written to the end of the file first; its index entry and the block count follow, so
+ * a reader never sees an entry whose data is missing. Only one writer may have an archive open at a time.
+ */
+public final class ReplayArchiveWriter implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer scratch = ByteBuffer.allocate(ReplayArchiveFormat.ENTRY_SIZE);
+    private long block;
+    private int blockCount;
+    private int blockCapacity;
+    private long end;
+    private int games;
+
+    /**
+     * Opens an archive for appending, creating an empty one if the file does not exist.
+     *
+     * @param file The archive file.
+     * @throws IOException if the file cannot be opened or is not an archive.
+     */
+    public ReplayArchiveWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                create();
+            } else {
+                findLastBlock();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void create() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ReplayArchiveFormat.HEADER_SIZE);
+        header.putInt(ReplayArchiveFormat.MAGIC)
+                .putInt(ReplayArchiveFormat.VERSION)
+                .putInt(ReplayArchiveFormat.BLOCK_CAPACITY)
+                .putInt(0)
+                .putLong(ReplayArchiveFormat.HEADER_SIZE)
+                .flip();
+        writeFully(header, 0);
+        block = ReplayArchiveFormat.HEADER_SIZE;
+        blockCapacity = ReplayArchiveFormat.BLOCK_CAPACITY;
+        end = block;
+        appendBlock();
+    }
+
+    private void findLastBlock() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(ReplayArchiveFormat.HEADER_SIZE);
+        readFully(header, 0);
+        if (header.getInt(0) != ReplayArchiveFormat.MAGIC) {
+            throw new IOException("Not a replay archive");
+        }
+        blockCapacity = header.getInt(8);
+        block = header.getLong(ReplayArchiveFormat.FIRST_BLOCK_OFFSET);
+        ByteBuffer blockHeader = ByteBuffer.allocate(ReplayArchiveFormat.BLOCK_HEADER_SIZE);
+        while (true) {
+            blockHeader.clear();
+            readFully(blockHeader, block);
+            blockCount = blockHeader.getInt(0);
+            games += blockCount;
+            long next = blockHeader.getLong(ReplayArchiveFormat.NEXT_BLOCK_OFFSET);
+            if (next == 0) {
+                break;
+            }
+            block = next;
+        }
+        end = channel.size();
+    }
+
+    /**
+     * Writes an empty index block at the end of the file and makes it the current block.
+     */
+    private void appendBlock() throws IOException {
+        long previous = block;
+        long created = end;
+        ByteBuffer empty = ByteBuffer.allocate(ReplayArchiveFormat.blockSize(blockCapacity));
+        empty.putInt(0, 0).putInt(4, blockCapacity).putLong(ReplayArchiveFormat.NEXT_BLOCK_OFFSET, 0);
+        writeFully(empty, created);
+        end += empty.capacity();
+        if (previous != created) {
+            scratch.clear();
+            scratch.putLong(created).flip();
+            writeFully(scratch, previous + ReplayArchiveFormat.NEXT_BLOCK_OFFSET);
+        }
+        block = created;
+        blockCount = 0;
+    }
+
+    /**
+     * Appends a game.
+     *
+     * @param gameId The caller's ID of the game.
+     * @param replay The replay bytes, from position to limit; the buffer's position is not changed.
+     * @param score  The final score of the game.
+     * @param lines  The number of lines cleared in the game.
+     * @return The index of the game in the archive.
+     * @throws IOException if writing failed.
+     */
+    public int append(long gameId, ByteBuffer replay, int score, int lines) throws IOException {
+        ByteBuffer data = replay.duplicate();
+        long offset = end;
+        int length = data.remaining();
+        writeFully(data, offset);
+        end += length;
+        if (blockCount == blockCapacity) {
+            appendBlock();
+        }
+
+        scratch.clear();
+        scratch.putLong(gameId).putLong(offset).putInt(length).putInt(score).putInt(lines).flip();
+        writeFully(scratch, block + ReplayArchiveFormat.blockSize(blockCount));
+        blockCount++;
+        scratch.clear();
+        scratch.putInt(blockCount).flip();
+        writeFully(scratch, block);
+        return games++;
+    }
+
+    /**
+     * Appends a replay file, playing it headless once to obtain its final score and lines.
+     *
+     * @param gameId The caller's ID of the game.
+     * @param file   The replay file.
+     * @return The index of the game in the archive.
+     * @throws IOException if reading the replay or writing the archive failed.
+     */
+    public int append(long gameId, Path file) throws IOException {
+        ByteBuffer data;
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = ByteBuffer.allocate((int) source.size());
+            while (data.hasRemaining() && source.read(data) >= 0) {
+                // keep reading until the whole file is buffered
+            }
+            data.flip();
+        }
+        ReplayResult result;
+        try {
+            result = ReplayPlayer.playHeadless(new ReplayReader(data));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+        return append(gameId, data, result.getScore(), result.getLines());
+    }
+
+    /**
+     * Gets the number of games in the archive.
+     * @return The game count.
+     */
+    public int size() {
+        return games;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Truncated replay archive");
+            }
+            position += read;
+        }
+    }
+
+    /**
+     * Forces the archive to disk and closes it.
+     *
+     * @throws IOException if syncing or closing failed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.comp2042.replay;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and helpers of the binary replay format.
+ *
+ * <p>A replay starts with a fixed {@value #HEADER_SIZE}-byte big-endian header: magic, version, generator
+ * kind, generator seed, board rows and columns, and the length of a simulation step in nanoseconds.
+ * The header is followed by one record per action, each an unsigned LEB128 varint of
+ * {@code (tickDelta << 3) | action}. A typical input therefore takes a single byte.</p>
+ */
+public final class ReplayFormat {
+
+    /** File magic, "TRP1". */
+    public static final int MAGIC = 0x54525031;
+
+    /** Format version written by this code. */
+    public static final byte VERSION = 1;
+
+    /** Size of the header in bytes. */
+    public static final int HEADER_SIZE = 30;
+
+    /** Number of low bits of a record holding the action code. */
+    public static final int ACTION_BITS = 3;
+
+    /** Action code: a left move. */
+    public static final int LEFT = 0;
+
+    /** Action code: a right move. */
+    public static final int RIGHT = 1;
+
+    /** Action code: a rotation. */
+    public static final int ROTATE = 2;
+
+    /** Action code: a soft drop by the player. */
+    public static final int SOFT_DROP = 3;
+
+    /** Action code: a gravity tick moving the brick down. */
+    public static final int GRAVITY = 4;
+
+    /** Action code: the player started a new game. */
+    public static final int NEW_GAME = 5;
+
+    /** Action code: a hard drop by the player. */
+    public static final int HARD_DROP = 6;
+
+    /** Action code: the player took back the last piece. */
+    public static final int UNDO = 7;
+
+    /** Generator kind of {@link RandomBrickGenerator}. */
+    public static final byte RANDOM_GENERATOR = 0;
+
+    /** Generator kind of {@link SevenBagBrickGenerator}. */
+    public static final byte SEVEN_BAG_GENERATOR = 1;
+
+    private ReplayFormat() {
+        // We don't want to instantiate this utility class
+    }
+
+    /**
+     * Maps a move event to its action code.
+     *
+     * @param event The event to record.
+     * @return The action code.
+     */
+    public static int actionOf(MoveEvent event) {
+        EventType type = event.getEventType();
+        return switch (type) {
+            case LEFT -> LEFT;
+            case RIGHT -> RIGHT;
+            case ROTATE -> ROTATE;
+            case DOWN -> event.getEventSource() == EventSource.USER ? SOFT_DROP : GRAVITY;
+            case HARD_DROP -> HARD_DROP;
+            case UNDO -> UNDO;
+        };
+    }
+
+    /**
+     * Gets the kind code of a generator.
+     *
+     * @param generator The generator of the recorded board.
+     * @return The generator kind.
+     * @throws IllegalArgumentException if the generator type cannot be recreated from a replay.
+     */
+    public static byte generatorKind(BrickGenerator generator) {
+        if (generator instanceof SevenBagBrickGenerator) {
+            return SEVEN_BAG_GENERATOR;
+        }
+        if (generator instanceof RandomBrickGenerator) {
+            return RANDOM_GENERATOR;
+        }
+        throw new IllegalArgumentException("Cannot record games of " + generator.getClass().getName());
+    }
+
+    /**
+     * Recreates the generator of a recorded game.
+     *
+     * @param kind The generator kind from the header.
+     * @param seed The seed from the header.
+     * @return A generator producing the recorded sequence.
+     * @throws IllegalArgumentException if the kind is unknown.
+     */
+    public static BrickGenerator createGenerator(int kind, long seed) {
+        return switch (kind) {
+            case RANDOM_GENERATOR -> new RandomBrickGenerator(seed);
+            case SEVEN_BAG_GENERATOR -> new SevenBagBrickGenerator(seed);
+            default -> throw new IllegalArgumentException("Unknown generator kind " + kind);
+        };
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint.
+     *
+     * @param buffer The target buffer, with at least 10 bytes remaining.
+     * @param value  The value, treated as unsigned.
+     */
+    public static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint.
+     *
+     * @param buffer The source buffer, positioned at the first byte of the varint.
+     * @return The decoded value.
+     * @throws IllegalArgumentException if the varint is longer than 64 bits.
+     */
+    public static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at " + buffer.position());
+    }
+}
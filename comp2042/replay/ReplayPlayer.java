@@ -0,0 +1,338 @@
+package com.comp2042.replay;
+
+import com.comp2042.BitBoard;
+import com.comp2042.BitMatrixOperations;
+import com.comp2042.Board;
+import com.comp2042.BoardSnapshot;
+import com.comp2042.DownData;
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameController;
+import com.comp2042.GameView;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.InputEventListener;
+import com.comp2042.MoveEvent;
+import com.comp2042.SimpleBoard;
+import com.comp2042.UndoHistory;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Re-runs a recorded game through the {@link InputEventListener} methods of a {@link GameController}.
+ * Playback is either as fast as possible ({@link #playToEnd()}) or paced by a clock at 1x to
+ * {@value #MAX_SPEED}x the recorded speed ({@link #advance(long)}), e.g. from an animation timer.
+ * The engine must be in the state the recording started from, as built by {@link #createGame}.
+ *
+ * <p>While playing, the player keeps a keyframe (a {@link BoardSnapshot}, the undo history and the
+ * reader position) every few pieces. {@link #seekToPiece(int)} restores the nearest keyframe before
+ * the target and simulates forward from there, so seeking costs at most one keyframe interval of
+ * simulation.</p>
+ */
+public final class ReplayPlayer {
+
+    /** Number of pieces between two keyframes used by the short constructor. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 20;
+
+    /** Highest playback speed factor. */
+    public static final int MAX_SPEED = 64;
+
+    // Tick length assumed for recordings without a clock
+    private static final long DEFAULT_STEP_NANOS = 1_000_000_000L / 60;
+
+    private static final MoveEvent LEFT = new MoveEvent(EventType.LEFT, EventSource.USER);
+    private static final MoveEvent RIGHT = new MoveEvent(EventType.RIGHT, EventSource.USER);
+    private static final MoveEvent ROTATE = new MoveEvent(EventType.ROTATE, EventSource.USER);
+    private static final MoveEvent SOFT_DROP = new MoveEvent(EventType.DOWN, EventSource.USER);
+    private static final MoveEvent GRAVITY = new MoveEvent(EventType.DOWN, EventSource.THREAD);
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.USER);
+    private static final MoveEvent UNDO = new MoveEvent(EventType.UNDO, EventSource.USER);
+
+    private final ReplayReader reader;
+    private final GameController controller;
+    private final long stepNanos;
+    private final int keyframeInterval;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+
+    private boolean pending;
+    private boolean finished;
+    private long clock;
+    private int speed = 1;
+    private long lastTime = -1;
+    private long accumulator;
+    private int lines;
+    private int pieces;
+    private long actions;
+
+    /**
+     * Creates a player with the default keyframe interval.
+     *
+     * @param reader     The replay, positioned before its first action.
+     * @param controller The engine to drive, in the recorded initial state.
+     */
+    public ReplayPlayer(ReplayReader reader, GameController controller) {
+        this(reader, controller, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a player.
+     *
+     * @param reader           The replay, positioned before its first action.
+     * @param controller       The engine to drive, in the recorded initial state.
+     * @param keyframeInterval The number of pieces between two keyframes.
+     */
+    public ReplayPlayer(ReplayReader reader, GameController controller, int keyframeInterval) {
+        this.reader = reader;
+        this.controller = controller;
+        this.stepNanos = reader.getStepNanos() > 0 ? reader.getStepNanos() : DEFAULT_STEP_NANOS;
+        this.keyframeInterval = keyframeInterval;
+        keyframes.add(captureKeyframe());
+    }
+
+    /**
+     * State of the playback right after a piece locked.
+     */
+    private static final class Keyframe {
+        private final BoardSnapshot snapshot;
+        private final UndoHistory history;
+        private final ReplayReader.Position position;
+        private final long clock;
+        private final int pieces;
+        private final int lines;
+        private final long actions;
+
+        private Keyframe(BoardSnapshot snapshot, UndoHistory history, ReplayReader.Position position, long clock,
+                         int pieces, int lines, long actions) {
+            this.snapshot = snapshot;
+            this.history = history;
+            this.position = position;
+            this.clock = clock;
+            this.pieces = pieces;
+            this.lines = lines;
+            this.actions = actions;
+        }
+    }
+
+    private Keyframe captureKeyframe() {
+        return new Keyframe(controller.getBoard().snapshot(), controller.getUndoHistory().copy(), reader.mark(),
+                clock, pieces, lines, actions);
+    }
+
+    /**
+     * Builds an engine in the state a replay was recorded from.
+     *
+     * @param reader The replay.
+     * @param view   The view to attach, e.g. a {@link HeadlessGameView}.
+     * @return A new controller whose board uses the recorded size and brick sequence.
+     */
+    public static GameController createGame(ReplayReader reader, GameView view) {
+        BrickGenerator generator = reader.createGenerator();
+        Board board = reader.getColumns() <= BitMatrixOperations.MAX_COLUMNS
+                ? new BitBoard(reader.getRows(), reader.getColumns(), generator)
+                : new SimpleBoard(reader.getRows(), reader.getColumns(), generator);
+        return new GameController(view, board);
+    }
+
+    /**
+     * Plays a replay file headless at maximum speed.
+     *
+     * @param file The replay file.
+     * @return The outcome of the recorded game.
+     * @throws IOException if the file cannot be read.
+     */
+    public static ReplayResult playHeadless(Path file) throws IOException {
+        return playHeadless(ReplayReader.open(file));
+    }
+
+    /**
+     * Plays a replay headless at maximum speed.
+     *
+     * @param reader The replay, positioned before its first action.
+     * @return The outcome of the recorded game.
+     */
+    public static ReplayResult playHeadless(ReplayReader reader) {
+        GameController controller = createGame(reader, new HeadlessGameView());
+        ReplayPlayer player = new ReplayPlayer(reader, controller);
+        player.playToEnd();
+        return player.getResult();
+    }
+
+    /**
+     * Applies the next recorded action, regardless of its tick.
+     *
+     * @return false if the replay has ended.
+     */
+    public boolean step() {
+        if (!fetch()) {
+            return false;
+        }
+        apply();
+        return true;
+    }
+
+    /**
+     * Applies all remaining actions.
+     */
+    public void playToEnd() {
+        while (step()) {
+            // nothing to render in between
+        }
+    }
+
+    /**
+     * Advances playback to the given time, applying every action whose tick has been reached at the
+     * current speed.
+     *
+     * @param now The current time in nanoseconds.
+     * @return true if at least one action was applied, so a redraw is due.
+     */
+    public boolean advance(long now) {
+        if (lastTime < 0) {
+            lastTime = now;
+            return false;
+        }
+        accumulator += (now - lastTime) * speed;
+        lastTime = now;
+
+        boolean changed = false;
+        while (accumulator >= stepNanos && !finished) {
+            accumulator -= stepNanos;
+            clock++;
+            while (fetch() && reader.getTick() <= clock) {
+                apply();
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private boolean fetch() {
+        if (!pending && !finished) {
+            pending = reader.next();
+            finished = !pending;
+        }
+        return pending;
+    }
+
+    private void apply() {
+        pending = false;
+        actions++;
+        switch (reader.getAction()) {
+            case ReplayFormat.LEFT -> controller.onLeftEvent(LEFT);
+            case ReplayFormat.RIGHT -> controller.onRightEvent(RIGHT);
+            case ReplayFormat.ROTATE -> controller.onRotateEvent(ROTATE);
+            case ReplayFormat.SOFT_DROP -> down(SOFT_DROP);
+            case ReplayFormat.GRAVITY -> down(GRAVITY);
+            case ReplayFormat.HARD_DROP -> locked(controller.onHardDropEvent(HARD_DROP));
+            case ReplayFormat.UNDO -> controller.onUndoEvent(UNDO);
+            case ReplayFormat.NEW_GAME -> {
+                controller.createNewGame();
+                clock = 0;
+            }
+            default -> throw new IllegalStateException("Unknown replay action " + reader.getAction());
+        }
+    }
+
+    private void down(MoveEvent event) {
+        locked(controller.onDownEvent(event));
+    }
+
+    private void locked(DownData downData) {
+        if (downData.getClearRow() != null) {
+            pieces++;
+            lines += downData.getClearRow().getLinesRemoved();
+            if (pieces % keyframeInterval == 0 && pieces > keyframes.get(keyframes.size() - 1).pieces) {
+                keyframes.add(captureKeyframe());
+            }
+        }
+    }
+
+    /**
+     * Moves playback to the moment right after the given piece locked (or the end of the replay, if sooner).
+     * Keyframes at or before the target are restored instead of re-running the replay from its start.
+     *
+     * @param piece The number of locked pieces to seek to; 0 is the start of the replay.
+     */
+    public void seekToPiece(int piece) {
+        Keyframe nearest = keyframes.get(0);
+        for (Keyframe keyframe : keyframes) {
+            if (keyframe.pieces <= piece) {
+                nearest = keyframe;
+            }
+        }
+        if (piece < pieces || nearest.pieces > pieces) {
+            controller.restore(nearest.snapshot, nearest.history);
+            reader.reset(nearest.position);
+            clock = nearest.clock;
+            pieces = nearest.pieces;
+            lines = nearest.lines;
+            actions = nearest.actions;
+            pending = false;
+            finished = false;
+        }
+        while (pieces < piece && step()) {
+            // simulate forward from the keyframe
+        }
+        resetClock();
+    }
+
+    /**
+     * Gets the number of pieces locked so far.
+     * @return The piece count.
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Sets the playback speed.
+     * @param speed The factor relative to the recorded speed, clamped to 1..{@value #MAX_SPEED}.
+     */
+    public void setSpeed(int speed) {
+        this.speed = Math.max(1, Math.min(MAX_SPEED, speed));
+    }
+
+    /**
+     * Gets the playback speed.
+     * @return The speed factor.
+     */
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Forgets the last frame time, so time spent paused is not played back on resume.
+     */
+    public void resetClock() {
+        lastTime = -1;
+        accumulator = 0;
+    }
+
+    /**
+     * Checks whether every recorded action has been applied.
+     * @return true at the end of the replay.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Gets the current state of the replayed game.
+     * @return The current view data.
+     */
+    public ViewData getViewData() {
+        return controller.getViewData();
+    }
+
+    /**
+     * Summarises the playback so far.
+     * @return The result.
+     */
+    public ReplayResult getResult() {
+        return new ReplayResult(controller.getBoard().getScore().getValue(), lines, pieces, actions);
+    }
+}
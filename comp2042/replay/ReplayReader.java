@@ -0,0 +1,190 @@
+package com.comp2042.replay;
+
+import com.comp2042.logic.bricks.BrickGenerator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Cursor over the actions of a binary replay (see {@link ReplayFormat}).
+ * The header is decoded up front; {@link #next()} then decodes one record at a time without allocating.
+ */
+public final class ReplayReader {
+
+    private final ByteBuffer data;
+    private final int start;
+    private final byte generatorKind;
+    private final long seed;
+    private final int rows;
+    private final int columns;
+    private final long stepNanos;
+
+    private int action;
+    private long tick;
+    private boolean restartClock;
+
+    /**
+     * Creates a reader over replay bytes, from the buffer's position to its limit.
+     *
+     * @param data The replay bytes; the reader works on a duplicate, so the caller's position is unaffected.
+     * @throws IllegalArgumentException if the data does not start with a supported header.
+     */
+    public ReplayReader(ByteBuffer data) {
+        this.data = data.duplicate();
+        if (this.data.remaining() < ReplayFormat.HEADER_SIZE || this.data.getInt() != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay");
+        }
+        byte version = this.data.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + version);
+        }
+        generatorKind = this.data.get();
+        seed = this.data.getLong();
+        rows = this.data.getInt();
+        columns = this.data.getInt();
+        stepNanos = this.data.getLong();
+        start = this.data.position();
+    }
+
+    /**
+     * Reads a replay file into memory.
+     *
+     * @param file The replay file.
+     * @return A reader positioned before the first action.
+     * @throws IOException if the file cannot be read or is not a replay.
+     */
+    public static ReplayReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer data = ByteBuffer.allocate((int) channel.size());
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                // keep reading until the whole file is buffered
+            }
+            data.flip();
+            return new ReplayReader(data);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Advances to the next action.
+     *
+     * @return false if the replay has no more actions.
+     */
+    public boolean next() {
+        if (!data.hasRemaining()) {
+            return false;
+        }
+        if (restartClock) {
+            // The recorded clock restarts with every game
+            tick = 0;
+            restartClock = false;
+        }
+        long record = ReplayFormat.readVarLong(data);
+        action = (int) (record & ((1 << ReplayFormat.ACTION_BITS) - 1));
+        tick += record >>> ReplayFormat.ACTION_BITS;
+        restartClock = action == ReplayFormat.NEW_GAME;
+        return true;
+    }
+
+    /**
+     * Captures the cursor, so decoding can later resume from the current action.
+     * @return The current position.
+     */
+    public Position mark() {
+        return new Position(data.position(), tick, restartClock);
+    }
+
+    /**
+     * Moves the cursor to a position captured by {@link #mark()} on this reader.
+     * @param position The position to resume from.
+     */
+    public void reset(Position position) {
+        data.position(position.offset);
+        tick = position.tick;
+        restartClock = position.restartClock;
+    }
+
+    /**
+     * Position of a reader between two actions.
+     */
+    public static final class Position {
+        private final int offset;
+        private final long tick;
+        private final boolean restartClock;
+
+        private Position(int offset, long tick, boolean restartClock) {
+            this.offset = offset;
+            this.tick = tick;
+            this.restartClock = restartClock;
+        }
+    }
+
+    /**
+     * Moves the cursor back before the first action.
+     */
+    public void rewind() {
+        data.position(start);
+        tick = 0;
+        restartClock = false;
+    }
+
+    /**
+     * Gets the action code of the current action.
+     * @return One of the {@link ReplayFormat} action codes.
+     */
+    public int getAction() {
+        return action;
+    }
+
+    /**
+     * Gets the tick of the current action, counted from the start of the current game.
+     * @return The tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Creates a generator that replays the recorded brick sequence.
+     * @return A new generator.
+     */
+    public BrickGenerator createGenerator() {
+        return ReplayFormat.createGenerator(generatorKind, seed);
+    }
+
+    /**
+     * Gets the seed of the recorded brick sequence.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of board rows of the recorded game.
+     * @return The row count.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of board columns of the recorded game.
+     * @return The column count.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the recorded length of one tick.
+     * @return The tick length in nanoseconds, or 0 if the game had no clock.
+     */
+    public long getStepNanos() {
+        return stepNanos;
+    }
+}
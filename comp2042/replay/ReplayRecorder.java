@@ -0,0 +1,141 @@
+package com.comp2042.replay;
+
+import com.comp2042.Board;
+import com.comp2042.MoveEvent;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongSupplier;
+
+/**
+ * Writes the actions of a game to a binary replay file (see {@link ReplayFormat}).
+ * Records are collected in a direct buffer and written through a {@link FileChannel} when the buffer
+ * fills up, on {@link #flush()} and on {@link #close()}, so recording costs a few bytes of memory
+ * traffic per action. The recorder must be attached before the first action of the game, because
+ * playback recreates the board from the generator seed.
+ */
+public final class ReplayRecorder implements Closeable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_RECORD_SIZE = 10;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final LongSupplier tickSource;
+    private long lastTick;
+    private long events;
+
+    /**
+     * Creates a recorder timed by a simulation clock, e.g. {@code GameLoop::getTick}.
+     *
+     * @param file       The replay file to create or overwrite.
+     * @param board      The board of the recorded game, used for its size and generator seed.
+     * @param stepNanos  The length of one tick in nanoseconds, used for real-time playback.
+     * @param tickSource The clock telling the tick of every recorded action.
+     * @throws IOException if the file cannot be opened.
+     */
+    public ReplayRecorder(Path file, Board board, long stepNanos, LongSupplier tickSource) throws IOException {
+        this.tickSource = tickSource;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        int[][] matrix = board.getBoardMatrix();
+        BrickGenerator generator = board.getBrickGenerator();
+        buffer.putInt(ReplayFormat.MAGIC)
+                .put(ReplayFormat.VERSION)
+                .put(ReplayFormat.generatorKind(generator))
+                .putLong(generator.getSeed())
+                .putInt(matrix.length)
+                .putInt(matrix[0].length)
+                .putLong(stepNanos);
+    }
+
+    /**
+     * Creates a recorder for games without a clock, e.g. bot games; every action counts as one tick.
+     *
+     * @param file  The replay file to create or overwrite.
+     * @param board The board of the recorded game.
+     * @throws IOException if the file cannot be opened.
+     */
+    public ReplayRecorder(Path file, Board board) throws IOException {
+        this(file, board, 0, null);
+    }
+
+    /**
+     * Records a move or gravity event.
+     *
+     * @param event The event passed to the engine.
+     * @throws UncheckedIOException if the buffer had to be written and writing failed.
+     */
+    public void record(MoveEvent event) {
+        write(ReplayFormat.actionOf(event));
+    }
+
+    /**
+     * Records the start of a new game. Tick deltas restart from zero afterwards, like the game clock.
+     *
+     * @throws UncheckedIOException if the buffer had to be written and writing failed.
+     */
+    public void recordNewGame() {
+        write(ReplayFormat.NEW_GAME);
+        lastTick = 0;
+    }
+
+    private void write(int action) {
+        long tick = tickSource != null ? tickSource.getAsLong() : events + 1;
+        events++;
+        if (buffer.remaining() < MAX_RECORD_SIZE) {
+            flush();
+        }
+        ReplayFormat.writeVarLong(buffer, (Math.max(0, tick - lastTick) << ReplayFormat.ACTION_BITS) | action);
+        lastTick = tick;
+    }
+
+    /**
+     * Gets the number of actions recorded so far.
+     * @return The action count.
+     */
+    public long getEventCount() {
+        return events;
+    }
+
+    /**
+     * Writes all buffered records to the file.
+     *
+     * @throws UncheckedIOException if writing failed.
+     */
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Flushes the remaining records and closes the file.
+     *
+     * @throws IOException if writing or closing failed.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            channel.close();
+        }
+    }
+}
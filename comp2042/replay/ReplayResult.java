@@ -0,0 +1,64 @@
+package com.comp2042.replay;
+
+/**
+ * Outcome of playing back a replay.
+ */
+public final class ReplayResult {
+
+    private final int score;
+    private final int lines;
+    private final int pieces;
+    private final long actions;
+
+    /**
+     * Constructs a result.
+     *
+     * @param score   The final score.
+     * @param lines   The total number of lines cleared.
+     * @param pieces  The number of bricks locked.
+     * @param actions The number of actions played back.
+     */
+    public ReplayResult(int score, int lines, int pieces, long actions) {
+        this.score = score;
+        this.lines = lines;
+        this.pieces = pieces;
+        this.actions = actions;
+    }
+
+    /**
+     * Gets the final score.
+     * @return The final score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Gets the total number of lines cleared.
+     * @return The total number of lines cleared
+     */
+    public int getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the number of bricks locked.
+     * @return The number of bricks locked
+     */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the number of actions played back.
+     * @return The number of actions played back
+     */
+    public long getActions() {
+        return actions;
+    }
+
+    @Override
+    public String toString() {
+        return "score=" + score + " lines=" + lines + " pieces=" + pieces + " actions=" + actions;
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.tournament;
+
+import com.comp2042.DownData;
+
+/**
+ * A computer player bound to one game engine, e.g. {@link com.comp2042.logic.bot.AutoPlayer#playPiece()}.
+ */
+@FunctionalInterface
+public interface Player {
+
+    /**
+     * Decides where the current piece goes and plays it until it locks.
+     *
+     * @return The result of the lock, including cleared rows and the next view.
+     */
+    DownData playPiece();
+}
@@ -0,0 +1,22 @@
+package com.comp2042.tournament;
+
+import com.comp2042.InputEventListener;
+
+/**
+ * Creates the {@link Player}s of a tournament. Strategies are called from several threads at once; the
+ * players they create are only used by the worker that created them.
+ */
+@FunctionalInterface
+public interface PlayerStrategy {
+
+    /**
+     * Creates a player for an engine. The player plays every game of that engine: the engine is reset
+     * between games, and the player must not rely on state from an earlier game.
+     *
+     * @param eventListener The engine of the games, driven exactly as key presses would.
+     * @param rows          The number of rows of the board.
+     * @param columns       The number of columns of the board.
+     * @return The player.
+     */
+    Player createPlayer(InputEventListener eventListener, int rows, int columns);
+}
@@ -0,0 +1,47 @@
+package com.comp2042.tournament;
+
+import com.comp2042.InputEventListener;
+import com.comp2042.logic.bot.AutoPlayer;
+import com.comp2042.logic.bot.BeamSearchPlayer;
+import com.comp2042.logic.bot.Heuristic;
+import com.comp2042.logic.bot.MonteCarloPlayer;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The built-in players that can be compared by {@link TournamentRunner}.
+ */
+public enum PlayerType implements PlayerStrategy {
+    /** {@link AutoPlayer} without lookahead: every placement is scored on the first ply only. */
+    GREEDY {
+        @Override
+        public Player createPlayer(InputEventListener eventListener, int rows, int columns) {
+            return new AutoPlayer(eventListener, rows, columns, Heuristic.DEFAULT, ForkJoinPool.commonPool(), 0)
+                    ::playPiece;
+        }
+    },
+
+    /** {@link AutoPlayer} with its default time budget, searching the previewed next brick. */
+    LOOKAHEAD {
+        @Override
+        public Player createPlayer(InputEventListener eventListener, int rows, int columns) {
+            return new AutoPlayer(eventListener, rows, columns)::playPiece;
+        }
+    },
+
+    /** {@link MonteCarloPlayer} with its default time budget. */
+    MCTS {
+        @Override
+        public Player createPlayer(InputEventListener eventListener, int rows, int columns) {
+            return new MonteCarloPlayer(eventListener, rows, columns)::playPiece;
+        }
+    },
+
+    /** {@link BeamSearchPlayer} with its default time budget, searching the whole preview queue. */
+    BEAM {
+        @Override
+        public Player createPlayer(InputEventListener eventListener, int rows, int columns) {
+            return new BeamSearchPlayer(eventListener, rows, columns)::playPiece;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.comp2042.tournament;
+
+import com.comp2042.Board;
+import com.comp2042.ClearRow;
+import com.comp2042.GameController;
+import com.comp2042.HeadlessGameView;
+import com.comp2042.benchmark.BoardType;
+import com.comp2042.logic.bricks.SevenBagBrickGenerator;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Plays many seeded headless games at once and aggregates the results in a {@link TournamentStats}.
+ * Game {@code i} of a tournament uses a {@link SevenBagBrickGenerator} seeded with {@code firstSeed + i},
+ * so two players, heuristics or engine builds run on the same seeds see the same brick sequences.
+ * Worker tasks claim the next game from a shared counter until all games are played, so any executor
+ * works: a fixed pool with one worker per core, or a virtual thread per worker. Each worker builds its
+ * board, engine and player once and resets them between games, so a tournament's memory use depends on
+ * the number of workers, not the number of games.
+ *
+ * <p>Usage: {@code TournamentRunner [--games=n] [--seed=n] [--threads=n] [--virtual]
+ * [--player=greedy|lookahead|mcts|beam] [--board=simple|bit] [--max-pieces=n] [--report=file]}.
+ * A piece limit of 0 plays every game until it tops out.</p>
+ */
+public final class TournamentRunner {
+
+    /** Number of rows of the tournament boards. */
+    public static final int ROWS = 25;
+
+    /** Number of columns of the tournament boards. */
+    public static final int COLUMNS = 10;
+
+    private final PlayerStrategy strategy;
+    private final BoardType boardType;
+    private final int maxPieces;
+
+    /**
+     * Creates a runner.
+     *
+     * @param strategy  Creates the player of every game.
+     * @param boardType The board implementation to play on.
+     * @param maxPieces The number of pieces after which a game is stopped, or 0 for no limit.
+     * @throws IllegalArgumentException if the piece limit is negative.
+     */
+    public TournamentRunner(PlayerStrategy strategy, BoardType boardType, int maxPieces) {
+        if (maxPieces < 0) {
+            throw new IllegalArgumentException("Piece limit must not be negative, got " + maxPieces);
+        }
+        this.strategy = strategy;
+        this.boardType = boardType;
+        this.maxPieces = maxPieces;
+    }
+
+    /**
+     * Plays a tournament and waits for it to finish. The executor is not shut down.
+     *
+     * @param firstSeed The seed of the first game.
+     * @param games     The number of games.
+     * @param executor  Runs the worker tasks.
+     * @param workers   The number of worker tasks, i.e. the number of games played at once.
+     * @return The results.
+     * @throws InterruptedException if the calling thread is interrupted while waiting.
+     */
+    public TournamentStats run(long firstSeed, long games, ExecutorService executor, int workers)
+            throws InterruptedException {
+        TournamentStats stats = new TournamentStats();
+        AtomicLong next = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                Table table = new Table();
+                for (long game = next.getAndIncrement(); game < games; game = next.getAndIncrement()) {
+                    table.playGame(firstSeed + game, stats);
+                }
+            }));
+        }
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            // Stop the other workers from claiming further games
+            next.set(games);
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Tournament game failed", e.getCause());
+        }
+        return stats;
+    }
+
+    /**
+     * Plays one game to the end or the piece limit, recording every decision and the result.
+     *
+     * @param seed  The seed of the brick sequence.
+     * @param stats The accumulators receiving the results.
+     */
+    public void playGame(long seed, TournamentStats stats) {
+        new Table().playGame(seed, stats);
+    }
+
+    /**
+     * The board, engine and player of one worker, reused for every game the worker plays.
+     */
+    private final class Table {
+        private final Board board = boardType.create(ROWS, COLUMNS, new SevenBagBrickGenerator(0));
+        private final HeadlessGameView view = new HeadlessGameView();
+        private final GameController controller = new GameController(view, board);
+        private final Player player = strategy.createPlayer(controller, ROWS, COLUMNS);
+
+        /**
+         * Resets the table to a new game and plays it to the end or the piece limit.
+         *
+         * @param seed  The seed of the brick sequence.
+         * @param stats The accumulators receiving the results.
+         */
+        private void playGame(long seed, TournamentStats stats) {
+            board.getBrickGenerator().setSeed(seed);
+            controller.createNewGame();
+            view.reset();
+
+            long start = System.nanoTime();
+            long before = start;
+            int pieces = 0;
+            long lines = 0;
+            while (!view.isGameOver() && (maxPieces == 0 || pieces < maxPieces)) {
+                ClearRow clearRow = player.playPiece().getClearRow();
+                long after = System.nanoTime();
+                stats.recordDecision(after - before);
+                before = after;
+                pieces++;
+                lines += clearRow.getLinesRemoved();
+            }
+            stats.recordGame(board.getScore().getValue(), lines, pieces, before - start, view.isGameOver());
+        }
+    }
+
+    /**
+     * Entry point of the tournament runner.
+     *
+     * @param args Command line options, see the class documentation.
+     * @throws IOException          if the report file cannot be written.
+     * @throws InterruptedException if the main thread is interrupted while waiting for the games.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        long games = 100;
+        long seed = 1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean virtual = false;
+        PlayerType player = PlayerType.GREEDY;
+        BoardType boardType = BoardType.SIMPLE;
+        int maxPieces = 1000;
+        String report = null;
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--games=")) {
+                games = Long.parseLong(value);
+            } else if (arg.startsWith("--seed=")) {
+                seed = Long.parseLong(value);
+            } else if (arg.startsWith("--threads=")) {
+                threads = Integer.parseInt(value);
+            } else if (arg.equals("--virtual")) {
+                virtual = true;
+            } else if (arg.startsWith("--player=")) {
+                player = PlayerType.valueOf(value.toUpperCase(Locale.ROOT));
+            } else if (arg.startsWith("--board=")) {
+                boardType = BoardType.valueOf(value.toUpperCase(Locale.ROOT));
+            } else if (arg.startsWith("--max-pieces=")) {
+                maxPieces = Integer.parseInt(value);
+            } else if (arg.startsWith("--report=")) {
+                report = value;
+            } else {
+                throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        ExecutorService executor = virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(threads);
+        String threading = virtual ? threads + " virtual threads" : threads + " threads";
+        TournamentStats stats;
+        long start = System.nanoTime();
+        try {
+            stats = new TournamentRunner(player, boardType, maxPieces).run(seed, games, executor, threads);
+        } finally {
+            executor.shutdown();
+        }
+        long wallNanos = System.nanoTime() - start;
+
+        String title = String.format(Locale.ROOT, "# %s on %s, seeds %d..%d, %s, piece limit %d",
+                player.name().toLowerCase(Locale.ROOT), boardType.name().toLowerCase(Locale.ROOT),
+                seed, seed + games - 1, threading, maxPieces);
+        PrintWriter console = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        console.println(title);
+        stats.writeReport(console, wallNanos);
+        if (report != null) {
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(report)))) {
+                out.println(title);
+                stats.writeReport(out, wallNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.comp2042.tournament;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of a tournament, recorded concurrently by the threads playing its games.
+ * Everything is kept in lock-free accumulators ({@link LongAdder}s and {@link Histogram}s), so
+ * recording a decision or a finished game never blocks another game.
+ */
+public final class TournamentStats {
+
+    private final LongAdder toppedOut = new LongAdder();
+    private final Histogram scores = new Histogram();
+    private final Histogram lines = new Histogram();
+    private final Histogram pieces = new Histogram();
+    private final Histogram piecesPerSecond = new Histogram();
+    private final Histogram decisionNanos = new Histogram();
+
+    /**
+     * Records the time a player took to play one piece.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void recordDecision(long nanos) {
+        decisionNanos.record(nanos);
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param score      The final score.
+     * @param lineCount  The number of lines cleared.
+     * @param pieceCount The number of pieces played.
+     * @param nanos      The duration of the game in nanoseconds.
+     * @param gameOver   Whether the game ended by topping out rather than at the piece limit.
+     */
+    public void recordGame(long score, long lineCount, long pieceCount, long nanos, boolean gameOver) {
+        scores.record(score);
+        lines.record(lineCount);
+        pieces.record(pieceCount);
+        piecesPerSecond.record(nanos == 0 ? 0 : pieceCount * 1_000_000_000L / nanos);
+        if (gameOver) {
+            toppedOut.increment();
+        }
+    }
+
+    /**
+     * Gets the number of finished games.
+     * @return The game count.
+     */
+    public long getGames() {
+        return scores.getCount();
+    }
+
+    /**
+     * Gets the number of games that ended by topping out.
+     * @return The count.
+     */
+    public long getToppedOut() {
+        return toppedOut.sum();
+    }
+
+    /**
+     * Gets the distribution of final scores.
+     * @return The {@link Histogram} of scores.
+     */
+    public Histogram getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the distribution of lines cleared per game.
+     * @return The {@link Histogram} of line counts.
+     */
+    public Histogram getLines() {
+        return lines;
+    }
+
+    /**
+     * Gets the distribution of pieces played per game.
+     * @return The {@link Histogram} of piece counts.
+     */
+    public Histogram getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Gets the distribution of the playing speed of single games.
+     * @return The {@link Histogram} of pieces per second.
+     */
+    public Histogram getPiecesPerSecond() {
+        return piecesPerSecond;
+    }
+
+    /**
+     * Gets the distribution of the time a player took per piece.
+     * @return The {@link Histogram} of nanoseconds per decision.
+     */
+    public Histogram getDecisionNanos() {
+        return decisionNanos;
+    }
+
+    /**
+     * Writes a summary of the results.
+     *
+     * @param out       The destination.
+     * @param wallNanos The wall-clock duration of the tournament, for the overall throughput.
+     */
+    public void writeReport(PrintWriter out, long wallNanos) {
+        double seconds = wallNanos / 1e9;
+        out.printf(Locale.ROOT, "games %d (%d topped out) in %.2f s, %.1f games/s, %.0f pieces/s%n",
+                getGames(), getToppedOut(), seconds, getGames() / seconds, pieces.getSum() / seconds);
+        out.printf(Locale.ROOT, "%-18s %12s %10s %10s %10s %10s %10s%n",
+                "metric", "mean", "min", "p50", "p90", "p99", "max");
+        row(out, "score", scores, 1);
+        row(out, "lines", lines, 1);
+        row(out, "pieces", pieces, 1);
+        row(out, "pieces/s per game", piecesPerSecond, 1);
+        row(out, "decision us", decisionNanos, 1000);
+        out.flush();
+    }
+
+    private static void row(PrintWriter out, String name, Histogram histogram, double unit) {
+        out.printf(Locale.ROOT, "%-18s %12.1f %10.0f %10.0f %10.0f %10.0f %10.0f%n", name,
+                histogram.getMean() / unit, histogram.getMin() / unit, histogram.getPercentile(50) / unit,
+                histogram.getPercentile(90) / unit, histogram.getPercentile(99) / unit, histogram.getMax() / unit);
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RowKernel} built on the incubating Vector API: each step compares or blends a whole
+ * hardware vector of cells, and the tail shorter than a vector falls back to a scalar loop.
+ *
+ * <p>This is the only class that needs {@code --add-modules jdk.incubator.vector}, both to compile
+ * and to run, so it lives in the separate {@code vector} source set and is left out of the default
+ * build. {@link MatrixOperations} loads it reflectively: when the class was not built, or the JVM
+ * runs without the module, the game runs on the {@link ScalarRowKernel}.</p>
+ */
+final class VectorRowKernel implements RowKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public String getName() {
+        return "vector" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public boolean isFull(int[] row) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(row.length); i < bound; i += SPECIES.length()) {
+            if (IntVector.fromArray(SPECIES, row, i).compare(VectorOperators.EQ, 0).anyTrue()) {
+                return false;
+            }
+        }
+        for (; i < row.length; i++) {
+            if (row[i] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean collides(int[] row, int[] cells) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(row.length); i < bound; i += SPECIES.length()) {
+            VectorMask<Integer> filled = IntVector.fromArray(SPECIES, row, i).compare(VectorOperators.NE, 0);
+            if (filled.and(IntVector.fromArray(SPECIES, cells, i).compare(VectorOperators.NE, 0)).anyTrue()) {
+                return true;
+            }
+        }
+        for (; i < row.length; i++) {
+            if (row[i] != 0 && cells[i] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void merge(int[] row, int[] cells) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(row.length); i < bound; i += SPECIES.length()) {
+            IntVector source = IntVector.fromArray(SPECIES, cells, i);
+            IntVector.fromArray(SPECIES, row, i).blend(source, source.compare(VectorOperators.NE, 0)).intoArray(row, i);
+        }
+        for (; i < row.length; i++) {
+            if (cells[i] != 0) {
+                row[i] = cells[i];
+            }
+        }
+    }
+}